@@ -0,0 +1,68 @@
+#!/bin/bash
+# GET /api/posts 부하 비교: 플랫폼 스레드(기본) vs 가상 스레드(virtual 프로파일) vs WebFlux + R2DBC(reactive 프로파일)
+# 사용: ./load-benchmark.sh [동시 클라이언트 수] [측정 시간(초)]
+# 환경 변수: ROWS(시드 게시글 수), URL_PATH(요청 경로), WARMUP(워밍업 시간, 초), POOL_SIZE(커넥션 풀 크기),
+#           MODES(측정할 모드, 기본 "platform virtual reactive")
+
+set -e
+cd "$(dirname "$0")"
+
+CLIENTS=${1:-2000}
+DURATION=${2:-30}
+WARMUP=${WARMUP:-10}
+ROWS=${ROWS:-100000}
+PORT=${PORT:-18080}
+# 모드 간 차이를 실행 모델로 한정하기 위해 커넥션 풀 크기는 동일하게 고정 (JDBC/R2DBC 모두)
+POOL_SIZE=${POOL_SIZE:-32}
+MODES=${MODES:-"platform virtual reactive"}
+URL_PATH=${URL_PATH:-"/api/posts?strategy=pagination&page=0&size=10"}
+
+echo "🔨 애플리케이션 및 부하 측정기 빌드 중..."
+./mvnw -q -DskipTests package
+./mvnw -q -Pbenchmark test-compile
+JAR=$(ls target/strategy-board-*.jar | grep -v plain | head -1)
+
+run_mode() {
+    local mode=$1
+    local profiles=$2
+
+    # 로그 수준은 모드와 관계없이 같게 고정 (기본 application.yml의 SQL DEBUG 로그가 platform 측정에만 섞이지 않도록)
+    echo ""
+    echo "🚀 [$mode] 서버 시작 (시드 ${ROWS}건)..."
+    java -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.profiles.active="$profiles" \
+        --board.seed.rows="$ROWS" \
+        --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+        --board.reactive.pool.max-size="$POOL_SIZE" \
+        --spring.jpa.show-sql=false \
+        --logging.level.root=WARN \
+        --logging.level.org.hibernate.SQL=WARN \
+        --logging.level.com.pentasecurity.strategyboard=INFO > "target/load-$mode.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "http://localhost:$PORT/api/posts/health" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "❌ 서버 시작 실패: target/load-$mode.log 확인"
+            exit 1
+        fi
+        sleep 1
+    done
+
+    echo "📈 [$mode] 동시 클라이언트 ${CLIENTS}개, ${DURATION}초 측정..."
+    java -cp target/test-classes com.pentasecurity.strategyboard.benchmark.HttpLoadBenchmark \
+        "http://localhost:$PORT$URL_PATH" "$CLIENTS" "$DURATION" "$WARMUP" | tee "target/load-$mode.txt"
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+}
+
+for mode in $MODES; do
+    case $mode in
+        platform) run_mode platform default ;;
+        *) run_mode "$mode" "$mode" ;;
+    esac
+done
+
+echo ""
+echo "🎉 결과: target/load-{$(echo $MODES | tr ' ' ',')}.txt"
@@ -0,0 +1,115 @@
+package com.pentasecurity.strategyboard.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GET /api/posts 부하 측정기 (닫힌 루프)
+ * 가상 스레드로 동시 클라이언트 N개를 띄워 각자 응답을 받으면 곧바로 다음 요청을 보내고,
+ * 측정 구간의 초당 요청 수(RPS)와 지연시간 분포(p50/p99/최대)를 출력
+ *
+ * 사용: HttpLoadBenchmark [url] [동시 클라이언트 수] [측정 시간(초)] [워밍업 시간(초)]
+ */
+public class HttpLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/api/posts?strategy=pagination&page=0&size=10";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 10);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> runClient(client, request, measureFrom, measureUntil, errors)));
+            }
+        }
+
+        // 클라이언트별 지연시간을 합쳐 분포 계산
+        long[] latencies = results.stream()
+                .map(HttpLoadBenchmark::join)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("url=%s clients=%d duration=%ds%n", url, clients, duration.toSeconds());
+        System.out.printf("requests=%d errors=%d rps=%.1f%n", latencies.length, errors.get(), latencies.length / seconds);
+        if (latencies.length > 0) {
+            System.out.printf("p50=%.1fms p99=%.1fms max=%.1fms%n",
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1e6);
+        }
+    }
+
+    /**
+     * 측정 종료 시각까지 요청을 반복하고, 측정 구간 안에 완료된 성공 요청의 지연시간(ns)을 반환
+     */
+    private static long[] runClient(HttpClient client, HttpRequest request,
+                                    long measureFrom, long measureUntil, AtomicLong errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long start;
+        while ((start = System.nanoTime()) < measureUntil) {
+            boolean success;
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                success = response.statusCode() == 200;
+            } catch (Exception e) {
+                success = false;
+            }
+
+            // 완료 시각이 측정 구간 안인 요청만 집계
+            long end = System.nanoTime();
+            if (end < measureFrom || end > measureUntil) {
+                continue;
+            }
+            if (!success) {
+                errors.incrementAndGet();
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = end - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException("부하 클라이언트 실행 실패", e);
+        }
+    }
+}
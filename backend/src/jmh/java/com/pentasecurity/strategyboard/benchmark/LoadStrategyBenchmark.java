@@ -0,0 +1,133 @@
+package com.pentasecurity.strategyboard.benchmark;
+
+import com.pentasecurity.strategyboard.StrategyBoardApplication;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.search.SearchIndex;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import com.pentasecurity.strategyboard.strategy.LoadStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터 규모와 페이지 깊이별 LoadStrategy 성능 측정
+ * 시드 시더로 rows건을 적재한 Spring 컨텍스트를 트라이얼마다 띄워 실제 리포지토리 경로를 측정
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class LoadStrategyBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "10000", "100000" })
+    public int rows;
+
+    // 요청 페이지 위치 (전체 페이지 중 백분율, 0이면 첫 페이지)
+    // 고정 페이지 번호는 rows가 작으면 테이블 끝을 넘으므로 rows에서 페이지 번호를 계산
+    @Param({ "0", "1", "90" })
+    public int depthPercent;
+
+    // 요청 페이지 번호 (rows와 depthPercent로 계산)
+    private int pageDepth;
+
+    private ConfigurableApplicationContext context;
+    private LoadStrategy pagination;
+    private LoadStrategy keysetPagination;
+    private LoadStrategy infiniteScroll;
+    private LoadStrategy auto;
+    private LoadStrategy search;
+    private Long cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.yml보다 우선하도록 명령행 인자로 전달
+        context = new SpringApplicationBuilder(StrategyBoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + rows,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.com.pentasecurity.strategyboard=WARN",
+                        "--logging.level.com.pentasecurity.strategyboard.search=INFO",
+                        "--board.seed.rows=" + rows,
+                        "--board.seed.content-max-length=2000");
+
+        LoadStrategyFactory factory = context.getBean(LoadStrategyFactory.class);
+        pagination = factory.getStrategy("pagination");
+        keysetPagination = factory.getStrategy("keyset-pagination");
+        infiniteScroll = factory.getStrategy("infinite");
+        auto = factory.getStrategy("auto");
+        search = factory.getStrategy("search");
+
+        // 검색 색인은 기동 후 백그라운드에서 적재되므로 완료까지 대기
+        SearchIndex searchIndex = context.getBean(SearchIndex.class);
+        while (!searchIndex.isReady()) {
+            Thread.onSpinWait();
+        }
+
+        // 요청 페이지 직전 게시글 ID (시드 데이터는 ID 순서와 작성일 순서가 같으므로 두 커서 전략에 공통 사용)
+        pageDepth = (rows / PAGE_SIZE - 1) * depthPercent / 100;
+        if (pageDepth > 0) {
+            List<Post> previous = context.getBean(PostRepository.class)
+                    .findAllByOrderByIdDesc(PageRequest.of(pageDepth * PAGE_SIZE - 1, 1));
+            if (previous.isEmpty()) {
+                // 커서 없이 측정하면 깊은 페이지가 아닌 첫 페이지(또는 최신 글 링)를 측정하게 됨
+                throw new IllegalStateException("페이지 " + pageDepth + "이(가) 게시글 " + rows + "건 범위를 벗어납니다");
+            }
+            cursor = previous.get(0).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageResponse<PostDto> pagination() {
+        return pagination.loadPosts(request("pagination", pageDepth, null));
+    }
+
+    @Benchmark
+    public PageResponse<PostDto> keysetPagination() {
+        return keysetPagination.loadPosts(request("keyset-pagination", pageDepth, cursor));
+    }
+
+    @Benchmark
+    public PageResponse<PostDto> infiniteScroll() {
+        return infiniteScroll.loadPosts(request("infinite", 0, cursor));
+    }
+
+    @Benchmark
+    public PageResponse<PostDto> autoPageJump() {
+        // 커서 없이 페이지 번호로 바로 이동 (깊은 페이지는 지연 조인 경로 후보)
+        return auto.loadPosts(request("auto", pageDepth, null));
+    }
+
+    @Benchmark
+    public PageResponse<PostDto> search() {
+        PostListRequest request = request("search", 0, cursor);
+        request.setKeyword("무한스크롤 cursor");
+        return search.loadPosts(request);
+    }
+
+    private static PostListRequest request(String strategy, int page, Long lastId) {
+        PostListRequest request = new PostListRequest(page, PAGE_SIZE, strategy);
+        request.setLastId(lastId);
+        return request;
+    }
+}
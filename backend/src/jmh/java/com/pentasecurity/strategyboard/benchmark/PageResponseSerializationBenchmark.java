@@ -0,0 +1,102 @@
+package com.pentasecurity.strategyboard.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pentasecurity.strategyboard.cache.PostJsonCache;
+import com.pentasecurity.strategyboard.config.PageResponseHttpMessageConverter;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageResponse<PostDto> / PageResponse<PostSummaryDto>의 Jackson 직렬화 비용 측정
+ * ObjectMapper는 Spring Boot와 같은 방식(Jackson2ObjectMapperBuilder)으로 구성
+ *
+ * stream* 벤치마크는 실제 응답처럼 재사용 출력 스트림에 쓰는 비용으로,
+ * Jackson 직접 직렬화와 게시글 JSON 캐시 조각을 이어 붙이는 작성기(캐시 적중 상태)를 비교
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageResponseSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    public int pageSize;
+
+    @Param({ "100", "5000" })
+    public int contentLength;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<PostDto> page;
+    private PageResponse<PostSummaryDto> summaryPage;
+    private PageResponseHttpMessageConverter converter;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        String content = "전략패턴 게시판 본문 ".repeat(contentLength / 12 + 1).substring(0, contentLength);
+        List<PostDto> posts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            PostDto post = new PostDto();
+            post.setId((long) i);
+            post.setTitle("벤치마크 게시글 " + i);
+            post.setContent(content);
+            post.setAuthor("작성자" + i);
+            post.setCreatedAt(LocalDateTime.now());
+            posts.add(post);
+        }
+        page = new PageResponse<>(posts, 0, pageSize, 1_000_000);
+        summaryPage = page.map(PostSummaryDto::new);
+
+        converter = new PageResponseHttpMessageConverter(objectMapper,
+                new PostJsonCache(objectMapper, new SimpleMeterRegistry(), 256L * 1024 * 1024));
+        out = new ByteArrayOutputStream(pageSize * (contentLength * 3 + 256));
+        try {
+            // 캐시 적중 상태에서 측정
+            converter.write(page, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePostPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public int streamPostPageWithJackson() throws Exception {
+        out.reset();
+        objectMapper.writeValue(out, page);
+        return out.size();
+    }
+
+    @Benchmark
+    public int streamPostPageFromJsonCache() throws Exception {
+        out.reset();
+        converter.write(page, out);
+        return out.size();
+    }
+}
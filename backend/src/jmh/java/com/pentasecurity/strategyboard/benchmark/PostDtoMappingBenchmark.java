@@ -0,0 +1,56 @@
+package com.pentasecurity.strategyboard.benchmark;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 한 페이지 분량의 Entity → DTO 변환 비용 측정
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostDtoMappingBenchmark {
+
+    @Param({ "10", "100" })
+    public int pageSize;
+
+    @Param({ "100", "5000" })
+    public int contentLength;
+
+    private List<Post> posts;
+    private List<PostDto> postDtos;
+
+    @Setup
+    public void setUp() {
+        String content = "가".repeat(contentLength);
+        posts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            posts.add(new Post("벤치마크 게시글 " + i, content, "작성자" + i));
+        }
+        postDtos = toPostDtos();
+    }
+
+    @Benchmark
+    public List<PostDto> toPostDtos() {
+        return posts.stream()
+                .map(PostDto::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PostSummaryDto> toSummaries() {
+        return postDtos.stream()
+                .map(PostSummaryDto::new)
+                .collect(Collectors.toList());
+    }
+}
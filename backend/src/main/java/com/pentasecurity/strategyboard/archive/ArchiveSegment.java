@@ -0,0 +1,272 @@
+package com.pentasecurity.strategyboard.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 추가 전용 보관 세그먼트 파일 하나
+ *
+ * 레코드 형식: [id(8)][version(8)][JSON 길이(4)][JSON 바이트], ID 오름차순으로만 추가.
+ * 읽기는 파일 전체를 읽기 전용으로 매핑한 영역에서 하며, indexInterval개 레코드마다 (ID, 오프셋)을 기록한
+ * 희소 색인으로 대상 블록을 찾은 뒤 그 블록의 레코드 헤더만 건너뛰며 탐색함.
+ * 추가 후에는 새 매핑과 색인 범위를 담은 View를 교체하므로 읽기는 잠금 없이 직전 View를 사용
+ */
+final class ArchiveSegment implements AutoCloseable {
+
+    static final int HEADER_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int indexInterval;
+
+    // 희소 색인 (추가하는 쪽만 사용하며, 읽기는 View에 담긴 배열을 View의 indexSize까지만 사용)
+    private long[] indexIds = new long[16];
+    private int[] indexOffsets = new int[16];
+
+    private volatile View view;
+
+    private ArchiveSegment(Path path, FileChannel channel, int indexInterval) {
+        this.path = path;
+        this.channel = channel;
+        this.indexInterval = indexInterval;
+    }
+
+    /**
+     * 세그먼트 파일을 열고 레코드를 훑어 희소 색인을 만듦
+     * 기록 중 중단되어 끝이 잘린 레코드는 잘라냄
+     */
+    static ArchiveSegment open(Path path, int indexInterval) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        ArchiveSegment segment = new ArchiveSegment(path, channel, indexInterval);
+
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("보관 세그먼트가 너무 큽니다: " + path);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+        int offset = 0;
+        int records = 0;
+        int indexSize = 0;
+        long firstId = 0;
+        long lastId = 0;
+        while (offset + HEADER_BYTES <= fileSize) {
+            long id = mapped.getLong(offset);
+            int length = mapped.getInt(offset + Long.BYTES * 2);
+            if (length < 0 || offset + HEADER_BYTES + (long) length > fileSize) {
+                break;
+            }
+            if (records % indexInterval == 0) {
+                indexSize = segment.putIndex(indexSize, id, offset);
+            }
+            if (records == 0) {
+                firstId = id;
+            }
+            lastId = id;
+            records++;
+            offset += HEADER_BYTES + length;
+        }
+
+        if (offset < fileSize) {
+            channel.truncate(offset);
+            channel.force(true);
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, offset);
+        }
+        segment.view = segment.newView(mapped, offset, records, indexSize, firstId, lastId);
+        return segment;
+    }
+
+    /**
+     * ID 오름차순 레코드를 파일 끝에 추가하고 디스크에 반영한 뒤 매핑을 교체
+     *
+     * @param records 각 원소는 (ID, 버전, JSON)
+     */
+    void append(List<Record> records) throws IOException {
+        View current = view;
+        ByteBuffer[] buffers = new ByteBuffer[records.size()];
+        int offset = current.bytes;
+        int count = current.records;
+        int indexSize = current.indexSize;
+        long firstId = current.firstId;
+        long lastId = current.lastId;
+
+        for (int i = 0; i < records.size(); i++) {
+            Record record = records.get(i);
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + record.json().length);
+            buffer.putLong(record.id()).putLong(record.version()).putInt(record.json().length).put(record.json());
+            buffers[i] = buffer.flip();
+
+            if (count % indexInterval == 0) {
+                indexSize = putIndex(indexSize, record.id(), offset);
+            }
+            if (count == 0) {
+                firstId = record.id();
+            }
+            lastId = record.id();
+            count++;
+            offset += HEADER_BYTES + record.json().length;
+        }
+
+        channel.position(current.bytes);
+        while (buffers.length > 0 && buffers[buffers.length - 1].hasRemaining()) {
+            channel.write(buffers);
+        }
+        channel.force(false);
+
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, offset);
+        view = newView(mapped, offset, count, indexSize, firstId, lastId);
+    }
+
+    /**
+     * ID로 레코드 조회 (없으면 null)
+     */
+    Located find(long id) {
+        View current = view;
+        if (current.records == 0 || id < current.firstId || id > current.lastId) {
+            return null;
+        }
+
+        int block = floorBlock(current, id);
+        int offset = current.indexOffsets[block];
+        int end = blockEnd(current, block);
+        while (offset < end) {
+            long recordId = current.mapped.getLong(offset);
+            int length = current.mapped.getInt(offset + Long.BYTES * 2);
+            if (recordId == id) {
+                return new Located(current.mapped, offset);
+            }
+            if (recordId > id) {
+                return null;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return null;
+    }
+
+    /**
+     * beforeId 미만 레코드를 ID 내림차순으로 limit개까지 out에 추가
+     * beforeId가 속한 블록부터 앞 블록으로 거슬러 가며, 블록 안은 앞에서부터 헤더만 읽어 위치를 모은 뒤 뒤집음
+     */
+    void collectBefore(long beforeId, int limit, List<Located> out) {
+        View current = view;
+        if (current.records == 0 || current.firstId >= beforeId) {
+            return;
+        }
+
+        List<Integer> offsets = new ArrayList<>(indexInterval);
+        for (int block = floorBlock(current, beforeId - 1); block >= 0 && out.size() < limit; block--) {
+            offsets.clear();
+            int offset = current.indexOffsets[block];
+            int end = blockEnd(current, block);
+            while (offset < end) {
+                if (current.mapped.getLong(offset) >= beforeId) {
+                    break;
+                }
+                offsets.add(offset);
+                offset += HEADER_BYTES + current.mapped.getInt(offset + Long.BYTES * 2);
+            }
+            for (int i = offsets.size() - 1; i >= 0 && out.size() < limit; i--) {
+                out.add(new Located(current.mapped, offsets.get(i)));
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return view.records == 0;
+    }
+
+    long firstId() {
+        return view.firstId;
+    }
+
+    long lastId() {
+        return view.lastId;
+    }
+
+    int records() {
+        return view.records;
+    }
+
+    int bytes() {
+        return view.bytes;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * id 이하인 마지막 색인 블록 번호
+     */
+    private static int floorBlock(View current, long id) {
+        int found = Arrays.binarySearch(current.indexIds, 0, current.indexSize, id);
+        return found >= 0 ? found : Math.max(-found - 2, 0);
+    }
+
+    private static int blockEnd(View current, int block) {
+        return block + 1 < current.indexSize ? current.indexOffsets[block + 1] : current.bytes;
+    }
+
+    private View newView(MappedByteBuffer mapped, int bytes, int records, int indexSize, long firstId, long lastId) {
+        return new View(mapped, bytes, records, indexIds, indexOffsets, indexSize, firstId, lastId);
+    }
+
+    private int putIndex(int indexSize, long id, int offset) {
+        if (indexSize == indexIds.length) {
+            indexIds = Arrays.copyOf(indexIds, indexSize * 2);
+            indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+        }
+        indexIds[indexSize] = id;
+        indexOffsets[indexSize] = offset;
+        return indexSize + 1;
+    }
+
+    /**
+     * 추가할 레코드
+     */
+    record Record(long id, long version, byte[] json) {
+    }
+
+    /**
+     * 매핑 영역 안의 레코드 위치
+     */
+    record Located(ByteBuffer mapped, int offset) {
+
+        long id() {
+            return mapped.getLong(offset);
+        }
+
+        long version() {
+            return mapped.getLong(offset + Long.BYTES);
+        }
+
+        /**
+         * 레코드의 JSON 바이트 (매핑 영역을 복사하지 않는 읽기 전용 뷰)
+         */
+        ByteBuffer json() {
+            int length = mapped.getInt(offset + Long.BYTES * 2);
+            return mapped.slice(offset + HEADER_BYTES, length);
+        }
+    }
+
+    /**
+     * 읽기에 사용하는 세그먼트 상태 스냅샷
+     */
+    private record View(MappedByteBuffer mapped, int bytes, int records, long[] indexIds, int[] indexOffsets,
+                        int indexSize, long firstId, long lastId) {
+    }
+}
@@ -0,0 +1,268 @@
+package com.pentasecurity.strategyboard.archive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 오래된 게시글 보관 계층 (추가 전용, 메모리 매핑 세그먼트 파일)
+ *
+ * 보관 대상은 ID가 archivedUpTo() 이하인 게시글 전체이며, 이 구간은 기본 DB(posts 테이블)에서 삭제되어 있음.
+ * 그래서 ID 기준 조회(상세, lastId 커서)는 archivedUpTo()를 경계로 보관 계층과 DB 중 한 곳만 보면 됨.
+ * 게시글은 저장 시점의 JSON 직렬화 결과로 보관하며, 조회 결과는 파싱 없이 매핑 영역을 가리키는 PostDto(PostDto.fromJson)이고
+ * 목록 응답은 이 바이트를 그대로 출력함 (필드는 상세/요약 변환처럼 실제로 필요할 때 처음 한 번만 파싱).
+ *
+ * 보관된 게시글은 읽기 전용 (수정/삭제 요청은 DB에 없으므로 404)
+ */
+@Component
+public class PostArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(PostArchive.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String IN_MEMORY_URL_PREFIX = "jdbc:h2:mem:";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader postReader;
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final int indexInterval;
+
+    // ID 오름차순 세그먼트 목록 (추가 시 새 목록으로 교체)
+    private volatile List<ArchiveSegment> segments = List.of();
+
+    // 추가는 한 번에 하나씩 (파일 쓰기/force 동안 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용)
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    public PostArchive(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                       @Value("${board.archive.enabled:false}") boolean enabled,
+                       @Value("${board.archive.directory:${java.io.tmpdir}/strategy-board-archive}") Path directory,
+                       @Value("${board.archive.segment-bytes:67108864}") long segmentBytes,
+                       @Value("${board.archive.index-interval:64}") int indexInterval,
+                       @Value("${board.archive.reset-on-start:false}") boolean resetOnStart,
+                       @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.objectMapper = objectMapper;
+        this.postReader = objectMapper.readerFor(PostDto.class);
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentBytes = Math.min(segmentBytes, Integer.MAX_VALUE);
+        this.indexInterval = Math.max(indexInterval, 1);
+
+        if (enabled) {
+            // 세그먼트 삭제는 DB도 재시작과 함께 비워지는 경우에만 허용 (파일 DB라면 보관 게시글이 어디에도 남지 않음)
+            boolean inMemory = datasourceUrl.startsWith(IN_MEMORY_URL_PREFIX);
+            if (resetOnStart && !inMemory) {
+                throw new IllegalStateException("board.archive.reset-on-start는 인메모리 H2 DB("
+                        + IN_MEMORY_URL_PREFIX + ")에서만 사용할 수 있습니다: " + datasourceUrl);
+            }
+            open(resetOnStart);
+            if (!resetOnStart && inMemory && count() > 0) {
+                log.warn("인메모리 DB인데 이전 보관 세그먼트가 남아 있습니다 (새로 발급되는 ID와 겹칠 수 있음, "
+                        + "board.archive.reset-on-start 참고): {}", directory);
+            }
+        }
+
+        Gauge.builder("board.archive.posts", this, PostArchive::count)
+                .description("보관 계층 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("board.archive.bytes", this, archive -> archive.segments.stream()
+                        .mapToLong(ArchiveSegment::bytes).sum())
+                .description("보관 세그먼트 파일 크기 합")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 보관된 마지막 게시글 ID (이 ID 이하는 모두 보관 계층에 있음, 보관된 게시글이 없으면 0)
+     */
+    public long archivedUpTo() {
+        List<ArchiveSegment> current = segments;
+        return current.isEmpty() ? 0 : current.get(current.size() - 1).lastId();
+    }
+
+    public long count() {
+        return segments.stream().mapToLong(ArchiveSegment::records).sum();
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * 보관된 게시글 조회
+     */
+    public Optional<PostDto> find(long id) {
+        if (id > archivedUpTo()) {
+            return Optional.empty();
+        }
+        for (ArchiveSegment segment : segments) {
+            if (id <= segment.lastId()) {
+                return Optional.ofNullable(segment.find(id)).map(this::decode);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * beforeId 미만 보관 게시글을 ID 내림차순으로 limit개까지 조회
+     */
+    public List<PostDto> findBefore(long beforeId, int limit) {
+        List<ArchiveSegment> current = segments;
+        List<ArchiveSegment.Located> located = new ArrayList<>(limit);
+        for (int i = current.size() - 1; i >= 0 && located.size() < limit; i--) {
+            current.get(i).collectBefore(beforeId, limit, located);
+        }
+
+        List<PostDto> posts = new ArrayList<>(located.size());
+        for (ArchiveSegment.Located record : located) {
+            posts.add(decode(record));
+        }
+        return posts;
+    }
+
+    /**
+     * 게시글을 보관 세그먼트 끝에 추가 (ID 오름차순, 모두 archivedUpTo()보다 커야 함)
+     * 디스크에 반영(force)된 뒤 반환하므로, 반환 후 DB에서 삭제해도 됨
+     */
+    void append(List<PostDto> posts) throws IOException {
+        if (!enabled) {
+            throw new IllegalStateException("보관 계층이 비활성화되어 있습니다 (board.archive.enabled)");
+        }
+        appendLock.lock();
+        try {
+            appendLocked(posts);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void appendLocked(List<PostDto> posts) throws IOException {
+        long previousId = archivedUpTo();
+        List<ArchiveSegment.Record> pending = new ArrayList<>();
+        long pendingBytes = 0;
+        ArchiveSegment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+
+        for (PostDto post : posts) {
+            if (post.getId() <= previousId) {
+                throw new IllegalStateException("보관 계층에는 ID 오름차순으로만 추가할 수 있습니다: "
+                        + post.getId() + " <= " + previousId);
+            }
+            previousId = post.getId();
+
+            byte[] json = encode(post);
+            long recordBytes = ArchiveSegment.HEADER_BYTES + json.length;
+            long activeBytes = active == null ? 0 : active.bytes() + pendingBytes;
+
+            // 세그먼트 크기를 넘으면 지금까지 모은 레코드를 쓰고 새 세그먼트로 넘어감
+            if (active == null || (activeBytes > 0 && activeBytes + recordBytes > segmentBytes)) {
+                flush(active, pending);
+                pending = new ArrayList<>();
+                pendingBytes = 0;
+                active = ArchiveSegment.open(directory.resolve(
+                        String.format("%s%020d%s", SEGMENT_PREFIX, post.getId(), SEGMENT_SUFFIX)), indexInterval);
+            }
+            pending.add(new ArchiveSegment.Record(post.getId(), post.getVersion(), json));
+            pendingBytes += recordBytes;
+        }
+        flush(active, pending);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (ArchiveSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("보관 세그먼트 닫기 실패: {}", segment.path(), e);
+            }
+        }
+    }
+
+    private void open(boolean reset) {
+        try {
+            Files.createDirectories(directory);
+            List<Path> paths = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                    SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                stream.forEach(paths::add);
+            }
+            // 파일 이름의 첫 ID가 0으로 채운 고정 길이이므로 이름순이 ID순
+            paths.sort(null);
+
+            List<ArchiveSegment> opened = new ArrayList<>();
+            for (Path path : paths) {
+                if (reset) {
+                    Files.delete(path);
+                    continue;
+                }
+                ArchiveSegment segment = ArchiveSegment.open(path, indexInterval);
+                if (segment.isEmpty()) {
+                    // 만든 직후 기록 전에 중단된 세그먼트
+                    segment.close();
+                    Files.delete(path);
+                } else {
+                    opened.add(segment);
+                }
+            }
+            segments = List.copyOf(opened);
+            log.info("보관 계층 열기: {} (세그먼트 {}개, 게시글 {}건, 마지막 ID {})",
+                    directory, opened.size(), count(), archivedUpTo());
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관 계층을 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 모은 레코드를 세그먼트에 쓰고, 새 세그먼트라면 기록이 끝난 뒤 조회 대상 목록에 추가
+     */
+    private void flush(ArchiveSegment segment, List<ArchiveSegment.Record> pending) throws IOException {
+        if (segment == null || pending.isEmpty()) {
+            return;
+        }
+        segment.append(pending);
+        if (!segments.contains(segment)) {
+            List<ArchiveSegment> next = new ArrayList<>(segments);
+            next.add(segment);
+            segments = List.copyOf(next);
+        }
+    }
+
+    private byte[] encode(PostDto post) {
+        try {
+            return objectMapper.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 레코드 헤더(ID, 버전)와 JSON 위치만으로 핸들을 만듦 (JSON은 필드가 필요할 때 파싱)
+     */
+    private PostDto decode(ArchiveSegment.Located record) {
+        return PostDto.fromJson(record.id(), record.version(), record.json(), postReader);
+    }
+}
@@ -0,0 +1,125 @@
+package com.pentasecurity.strategyboard.archive;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 게시글을 주기적으로 보관 계층으로 옮기는 작업 (board.archive.enabled일 때만 동작)
+ *
+ * 보관 구간은 "작성일이 max-age보다 최근인 가장 작은 ID" 직전까지의 ID 구간이므로,
+ * 보관 계층은 항상 ID 앞부분 전체를 담고 기본 DB에는 그 이후 ID만 남음.
+ * 배치마다 세그먼트에 쓰고 디스크에 반영한 뒤 같은 구간을 DB에서 일괄 삭제하므로,
+ * 중간에 중단되어도 다음 실행이 이미 보관된 구간의 삭제부터 이어서 함
+ */
+@Component
+public class PostArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(PostArchiver.class);
+
+    private final PostRepository postRepository;
+    private final PostArchive postArchive;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final Counter moved;
+
+    // 스케줄 실행과 수동 실행이 겹치지 않도록 (DB 조회/파일 쓰기 동안 가상 스레드가 고정되지 않도록 synchronized 대신 사용)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public PostArchiver(PostRepository postRepository, PostArchive postArchive,
+                        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                        @Value("${board.archive.max-age:P30D}") Duration maxAge,
+                        @Value("${board.archive.batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postArchive = postArchive;
+        this.eventPublisher = eventPublisher;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.moved = Counter.builder("board.archive.moved")
+                .description("보관 계층으로 옮긴 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${board.archive.interval:PT10M}",
+            initialDelayString = "${board.archive.interval:PT10M}")
+    public void scheduledArchive() {
+        archiveOldPosts();
+    }
+
+    /**
+     * max-age보다 오래된 ID 앞부분 구간을 보관 계층으로 옮김
+     *
+     * @return 옮긴 게시글 수 (보관 계층이 비활성화되어 있으면 0)
+     */
+    public long archiveOldPosts() {
+        if (!postArchive.isEnabled()) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            return archive();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        long target = postRepository.findMinIdCreatedAtOrAfter(cutoff)
+                .map(id -> id - 1)
+                .or(postRepository::findMaxId)
+                .orElse(0L);
+
+        long archived = postArchive.archivedUpTo();
+        // 이전 실행이 세그먼트 기록 후 삭제 전에 중단되었다면 남은 행부터 삭제
+        long deleted = postRepository.deleteAllUpToId(archived);
+
+        long movedRows = 0;
+        while (archived < target) {
+            long from = archived;
+            List<PostDto> batch = postRepository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.of(0, batchSize))
+                    .stream()
+                    .filter(post -> post.getId() <= target)
+                    .map(PostDto::new)
+                    .collect(Collectors.toList());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            try {
+                postArchive.append(batch);
+            } catch (IOException e) {
+                throw new UncheckedIOException("보관 세그먼트 기록 실패", e);
+            }
+            archived = batch.get(batch.size() - 1).getId();
+            postRepository.deleteAllUpToId(archived);
+            movedRows += batch.size();
+            moved.increment(batch.size());
+        }
+
+        if (movedRows > 0 || deleted > 0) {
+            log.info("게시글 보관: {}건 이동 (보관 마지막 ID {}, 기준 작성일 {})", movedRows, archived, cutoff);
+            // 일괄 삭제는 건별 변경 이벤트가 없으므로 캐시/카운터가 보관 구간 항목만 버리도록 알림
+            eventPublisher.publishEvent(new PostsArchivedEvent(archived, movedRows + deleted));
+        }
+        return movedRows;
+    }
+}
@@ -0,0 +1,188 @@
+package com.pentasecurity.strategyboard.cache;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 최근 조회된 작성자별 최신 게시글 N개와 게시글 수를 보관하는 LRU 캐시
+ * 작성자 페이지의 첫 페이지들과 전체 건수를 DB 조회 없이 처리하기 위해 사용
+ *
+ * 자주 조회되는 작성자만 남도록 접근 순서 기준으로 가장 오래 조회되지 않은 작성자부터 밀려남.
+ * 게시글 변경 이벤트가 오면 해당 작성자(수정으로 작성자가 바뀐 경우 이전 작성자 포함) 항목을 버리고 다음 조회 때 다시 적재
+ */
+@Component
+public class AuthorFeedCache {
+
+    private final PostRepository postRepository;
+    private final int maxAuthors;
+    private final int headSize;
+
+    // 접근 순서 LinkedHashMap (this로 동기화)
+    private final Map<String, Head> heads;
+
+    // 무효화가 일어날 때마다 증가, 적재 도중 무효화된 결과는 캐시에 넣지 않기 위해 사용
+    private long generation;
+
+    public AuthorFeedCache(PostRepository postRepository,
+                           @Value("${board.author-cache.max-authors:128}") int maxAuthors,
+                           @Value("${board.author-cache.head-size:50}") int headSize) {
+        this.postRepository = postRepository;
+        this.maxAuthors = maxAuthors;
+        this.headSize = headSize;
+        this.heads = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Head> eldest) {
+                return size() > AuthorFeedCache.this.maxAuthors;
+            }
+        };
+    }
+
+    /**
+     * 작성자의 lastId(없으면 최신) 다음부터 size개의 게시글을 캐시에서 조회
+     *
+     * @return 캐시만으로 요청을 온전히 채울 수 있으면 게시글 목록, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<PostDto>> slice(String author, Long lastId, int size) {
+        Head head = head(author);
+        int from = lastId == null ? 0 : indexBelow(head.posts, lastId);
+        return head.range(from, size);
+    }
+
+    /**
+     * 작성자의 page번째 페이지(최신순)를 캐시에서 조회
+     *
+     * @return 캐시만으로 요청을 온전히 채울 수 있으면 게시글 목록, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<PostDto>> page(String author, int page, int size) {
+        long offset = (long) page * size;
+        Head head = head(author);
+        if (offset > head.posts.length) {
+            return head.complete ? Optional.of(List.of()) : Optional.empty();
+        }
+        return head.range((int) offset, size);
+    }
+
+    /**
+     * 작성자의 전체 게시글 수
+     */
+    public long count(String author) {
+        return head(author).total;
+    }
+
+    /**
+     * 커밋된 게시글 변경을 반영 (작성자 항목과 해당 게시글을 보관 중인 항목을 버림)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        PostDto post = event.getPost();
+        synchronized (this) {
+            generation++;
+            heads.remove(post.getAuthor());
+            heads.values().removeIf(head -> head.contains(post.getId()));
+        }
+    }
+
+    @EventListener(PostsReloadedEvent.class)
+    public synchronized void clear() {
+        generation++;
+        heads.clear();
+    }
+
+    /**
+     * 보관 계층으로 옮겨진 게시글을 담았을 수 있는 항목만 버림
+     * 모든 게시글을 담은 항목은 마지막 게시글이 보관 구간 밖이면 그대로 유효하고,
+     * 일부만 담은 항목은 DB에 남은 더 오래된 게시글 수(total)가 바뀌었을 수 있으므로 버림
+     */
+    @EventListener
+    public synchronized void onPostsArchived(PostsArchivedEvent event) {
+        generation++;
+        heads.values().removeIf(head -> !head.complete() || head.reachesDownTo(event.getUpToId()));
+    }
+
+    private Head head(String author) {
+        long loadGeneration;
+        synchronized (this) {
+            Head cached = heads.get(author);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        // 잠금 밖에서 (author, id) 인덱스로 최신 게시글과 건수를 조회
+        PostDto[] posts = postRepository.findByAuthorOrderByIdDesc(author, PageRequest.of(0, headSize))
+                .stream()
+                .map(PostDto::new)
+                .toArray(PostDto[]::new);
+        boolean complete = posts.length < headSize;
+        long total = complete ? posts.length : postRepository.countByAuthor(author);
+        Head loaded = new Head(posts, complete, total);
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                heads.put(author, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * ID 내림차순 배열에서 id보다 작은 첫 항목의 위치
+     */
+    private static int indexBelow(PostDto[] posts, long id) {
+        int low = 0;
+        int high = posts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (posts[mid].getId() >= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 작성자별 캐시 항목 (불변)
+     *
+     * @param posts    ID 내림차순 최신 게시글
+     * @param complete 작성자의 모든 게시글이 들어있는지 여부
+     * @param total    작성자의 전체 게시글 수
+     */
+    private record Head(PostDto[] posts, boolean complete, long total) {
+
+        Optional<List<PostDto>> range(int from, int size) {
+            int available = posts.length - from;
+
+            // 보관 범위 끝에 닿았는데 더 오래된 게시글이 DB에 남아있다면 캐시만으로는 응답 불가
+            if (available < size && !complete) {
+                return Optional.empty();
+            }
+            return Optional.of(List.of(Arrays.copyOfRange(posts, from, from + Math.min(size, available))));
+        }
+
+        boolean reachesDownTo(long id) {
+            return posts.length > 0 && posts[posts.length - 1].getId() <= id;
+        }
+
+        boolean contains(Long id) {
+            int index = indexBelow(posts, id);
+            return index > 0 && posts[index - 1].getId().equals(id);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.pentasecurity.strategyboard.cache;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최신 게시글 N개를 보관하는 고정 크기 메모리 버퍼
+ * 무한스크롤의 첫 페이지와 얕은 커서 요청을 DB 조회 없이 처리하기 위해 사용
+ *
+ * 불변식: 버퍼는 "가장 오래된 보관 게시글 ID 이상인 모든 게시글"을 ID 내림차순으로 담고 있음.
+ * 새 게시글이 들어오면 가장 오래된 항목부터 밀려남.
+ * 읽기는 잠금 없이 불변 스냅샷을 사용하고, 쓰기(게시글 변경 이벤트)만 잠금 후 스냅샷을 교체
+ */
+@Component
+public class HotPostRing {
+
+    private final PostRepository postRepository;
+    private final int capacity;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 아직 적재 전이면 null
+    private volatile Snapshot snapshot;
+
+    public HotPostRing(PostRepository postRepository,
+                       @Value("${board.hot-ring.capacity:500}") int capacity) {
+        this.postRepository = postRepository;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 애플리케이션 기동 후(또는 대량 적재 후) 최신 게시글로 버퍼를 채움
+     * 잠금을 잡은 상태에서 조회하므로, 조회 도중 커밋된 변경 이벤트는 적재 이후에 순서대로 반영됨
+     */
+    @EventListener({ ApplicationReadyEvent.class, PostsReloadedEvent.class })
+    public void reload() {
+        writeLock.lock();
+        try {
+            PostDto[] posts = postRepository.findAllByOrderByIdDesc(PageRequest.of(0, capacity))
+                    .stream()
+                    .map(PostDto::new)
+                    .toArray(PostDto[]::new);
+
+            // 용량보다 적게 조회되었다면 테이블 전체가 버퍼에 들어있는 상태
+            snapshot = new Snapshot(posts, posts.length < capacity);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * lastId(없으면 최신) 다음부터 size개의 게시글을 버퍼에서 조회
+     *
+     * @return 버퍼만으로 요청을 온전히 채울 수 있으면 게시글 목록, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<PostDto>> slice(Long lastId, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        PostDto[] posts = current.posts;
+        int from = lastId == null ? 0 : indexBelow(posts, lastId);
+        int available = posts.length - from;
+
+        // 버퍼 끝에 닿았는데 더 오래된 게시글이 DB에 남아있다면 버퍼만으로는 응답 불가
+        if (available < size && !current.complete) {
+            return Optional.empty();
+        }
+
+        return Optional.of(List.of(Arrays.copyOfRange(posts, from, from + Math.min(size, available))));
+    }
+
+    /**
+     * 커밋된 게시글 변경을 버퍼에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                // 적재 전 이벤트는 reload() 조회 결과에 이미 포함됨
+                return;
+            }
+            snapshot = switch (event.getType()) {
+                case CREATED, UPDATED -> current.upsert(event.getPost(), capacity);
+                case DELETED -> current.remove(event.getPost().getId());
+            };
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 보관 계층으로 옮겨진 게시글을 버퍼 끝에서 제거 (DB를 다시 읽지 않음)
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null) {
+                snapshot = current.truncate(event.getUpToId());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * ID 내림차순 배열에서 id보다 작은 첫 항목의 위치
+     */
+    private static int indexBelow(PostDto[] posts, long id) {
+        int low = 0;
+        int high = posts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (posts[mid].getId() >= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 버퍼의 불변 스냅샷
+     *
+     * @param posts    ID 내림차순 게시글
+     * @param complete 테이블의 모든 게시글이 버퍼에 들어있는지 여부
+     */
+    private record Snapshot(PostDto[] posts, boolean complete) {
+
+        Snapshot upsert(PostDto post, int capacity) {
+            int index = indexBelow(posts, post.getId());
+
+            // 이미 보관 중인 게시글이면 교체
+            if (index > 0 && posts[index - 1].getId().equals(post.getId())) {
+                PostDto[] replaced = posts.clone();
+                replaced[index - 1] = post;
+                return new Snapshot(replaced, complete);
+            }
+
+            // 가장 오래된 보관 게시글보다 오래된 게시글은 버퍼 범위 밖
+            if (index == posts.length && !complete) {
+                return this;
+            }
+
+            int length = Math.min(posts.length + 1, capacity);
+            PostDto[] inserted = new PostDto[length];
+            System.arraycopy(posts, 0, inserted, 0, Math.min(index, length));
+            if (index < length) {
+                inserted[index] = post;
+                System.arraycopy(posts, index, inserted, index + 1, length - index - 1);
+            }
+
+            // 용량 초과로 가장 오래된 게시글이 밀려났다면 더 이상 전체 테이블이 아님
+            boolean evicted = posts.length + 1 > capacity;
+            return new Snapshot(inserted, complete && !evicted);
+        }
+
+        Snapshot remove(Long id) {
+            int index = indexBelow(posts, id);
+            if (index == 0 || !posts[index - 1].getId().equals(id)) {
+                return this;
+            }
+            PostDto[] removed = new PostDto[posts.length - 1];
+            System.arraycopy(posts, 0, removed, 0, index - 1);
+            System.arraycopy(posts, index, removed, index - 1, posts.length - index);
+            return new Snapshot(removed, complete);
+        }
+
+        /**
+         * upToId 이하 게시글 제거 (ID 내림차순이므로 배열 뒷부분)
+         * 보관 구간 이후 게시글은 그대로 남으므로 테이블 전체가 들어있는지 여부도 바뀌지 않음
+         */
+        Snapshot truncate(long upToId) {
+            int end = indexBelow(posts, upToId + 1);
+            return end == posts.length ? this : new Snapshot(Arrays.copyOf(posts, end), complete);
+        }
+    }
+}
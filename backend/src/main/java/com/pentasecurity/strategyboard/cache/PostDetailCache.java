@@ -0,0 +1,99 @@
+package com.pentasecurity.strategyboard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 조회 캐시
+ * 자주 읽히는 게시글은 DB를 거치지 않도록 PostDto를 보관하며, 본문 길이 차이가 크므로 항목 수가 아닌 추정 바이트 수로 크기를 제한
+ *
+ * Caffeine의 W-TinyLFU 정책으로 조회 빈도가 낮은 게시글부터 밀려나므로, 한 번씩만 읽히는 게시글이 인기 게시글을 밀어내지 않음.
+ * 적재는 키 단위로 원자적으로 수행되어, 적재 도중 커밋된 수정/삭제의 무효화는 적재가 끝난 뒤 반영됨 (이전 내용이 남지 않음)
+ */
+@Component
+public class PostDetailCache {
+
+    // PostDto 객체와 필드 참조, 문자열 헤더 등 본문 외 고정 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final PostRepository postRepository;
+    private final Cache<Long, PostDto> posts;
+
+    public PostDetailCache(PostRepository postRepository, MeterRegistry meterRegistry,
+                           @Value("${board.detail-cache.max-bytes:33554432}") long maxBytes) {
+        this.postRepository = postRepository;
+        this.posts = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, PostDto post) -> weightOf(post))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, posts, "board.post.detail");
+        Gauge.builder("board.post.detail.hit.ratio", posts, cache -> cache.stats().hitRate())
+                .description("게시글 상세 캐시 적중률 (기동 이후 누적)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 조회 (캐시에 없으면 DB에서 읽어 보관, 없는 게시글은 보관하지 않음)
+     */
+    public Optional<PostDto> find(Long id) {
+        return Optional.ofNullable(posts.get(id, key -> postRepository.findById(key).map(PostDto::new).orElse(null)));
+    }
+
+    /**
+     * 캐시에 있는 게시글만 조회 (없는 ID는 결과에서 빠지며 DB를 조회하지 않음)
+     *
+     * @return ID → 게시글 (수정 가능한 새 Map)
+     */
+    public Map<Long, PostDto> findAllPresent(Iterable<Long> ids) {
+        return new HashMap<>(posts.getAllPresent(ids));
+    }
+
+    /**
+     * 커밋된 게시글 수정/삭제 시 해당 항목 제거 (새 게시글은 처음 조회될 때 적재)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            posts.invalidate(event.getPost().getId());
+        }
+    }
+
+    @EventListener(PostsReloadedEvent.class)
+    public void clear() {
+        posts.invalidateAll();
+    }
+
+    /**
+     * 보관 계층으로 옮겨진 게시글 항목 제거 (보관 게시글은 보관 계층에서 읽음)
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        posts.asMap().keySet().removeIf(id -> id <= event.getUpToId());
+    }
+
+    /**
+     * 문자열은 UTF-16 기준(문자당 2바이트)으로 추정
+     */
+    private static int weightOf(PostDto post) {
+        return ENTRY_OVERHEAD_BYTES
+                + 2 * (post.getTitle().length() + post.getContent().length() + post.getAuthor().length());
+    }
+}
@@ -0,0 +1,95 @@
+package com.pentasecurity.strategyboard.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+
+/**
+ * 게시글별 JSON 직렬화 결과(UTF-8 바이트) 캐시
+ * 목록 응답을 쓸 때 같은 게시글을 매번 Jackson으로 다시 직렬화하지 않고 바이트 조각을 그대로 이어 붙이기 위해 사용
+ *
+ * 항목은 (ID, 버전)이 모두 같을 때만 사용하므로, 무효화 이벤트보다 먼저 도착한 이전 버전 DTO로 채워진 항목도 잘못 쓰이지 않음.
+ * 크기는 보관 바이트 수 기준으로 제한
+ */
+@Component
+public class PostJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Fragment> fragments;
+
+    public PostJsonCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         @Value("${board.json-cache.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, Fragment fragment) -> fragment.json.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragments, "board.post.json");
+    }
+
+    /**
+     * 게시글의 JSON 객체 바이트 (캐시에 없거나 버전이 다르면 직렬화 후 보관)
+     * 반환된 배열은 공유되므로 수정하면 안 됨
+     */
+    public byte[] fragment(PostDto post) {
+        Fragment cached = fragments.getIfPresent(post.getId());
+        if (cached != null && cached.version == post.getVersion()) {
+            return cached.json;
+        }
+
+        byte[] json = encode(post);
+        fragments.put(post.getId(), new Fragment(post.getVersion(), json));
+        return json;
+    }
+
+    /**
+     * 커밋된 게시글 수정/삭제 시 해당 게시글 항목 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            fragments.invalidate(event.getPost().getId());
+        }
+    }
+
+    @EventListener(PostsReloadedEvent.class)
+    public void clear() {
+        fragments.invalidateAll();
+    }
+
+    /**
+     * 보관 계층으로 옮겨진 게시글 항목 제거 (보관 게시글은 보관 계층에서 읽음)
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        fragments.asMap().keySet().removeIf(id -> id <= event.getUpToId());
+    }
+
+    private byte[] encode(PostDto post) {
+        try {
+            return objectMapper.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 특정 버전 게시글의 직렬화 결과
+     */
+    private record Fragment(long version, byte[] json) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.pentasecurity.strategyboard.config;
+
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 대용량 게시글 시더
+ * JPA를 거치지 않고 여러 스레드에서 JDBC 배치 INSERT로 적재하며 처리량(rows/s)을 보고
+ *
+ * ID는 JPA와 같은 post_seq 시퀀스에서 pooled 방식(시퀀스 값 v → v-49..v)으로 할당하므로
+ * 이후 애플리케이션이 등록하는 게시글과 충돌하지 않고,
+ * 작성일은 ID에 비례하도록 배치하여 ID 순서와 작성일 순서가 일치함 (커서/키셋 페이징 결과가 동일)
+ */
+@Component
+public class BulkPostSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkPostSeeder.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO posts (id, title, content, author, created_at, version) VALUES (?, ?, ?, ?, ?, 0)";
+
+    // H2 시퀀스 조회 구문
+    private static final String NEXT_ID_BLOCK_SQL = "SELECT NEXT VALUE FOR post_seq";
+
+    private static final String CONTENT_SOURCE =
+            "전략패턴(Strategy Pattern)을 활용하여 무한스크롤과 페이징을 구현하는 게시판 시스템의 부하 테스트 데이터입니다. " +
+            "Spring Boot + React, keyset pagination and cursor based infinite scroll under realistic volumes. ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkPostSeeder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 설정에 따라 게시글을 적재
+     *
+     * @return 적재 건수와 소요 시간
+     */
+    public Result seed(SeedProperties properties) throws InterruptedException {
+        long rows = properties.getRows();
+        int batchSize = properties.getBatchSize();
+        long chunks = (rows + batchSize - 1) / batchSize;
+
+        log.info("시드 데이터 적재 시작: {}건, 작성자 {}명, 스레드 {}개, 배치 {}건",
+                rows, properties.getAuthors(), properties.getThreads(), batchSize);
+
+        // 작성일 = 기준 시각 + (ID - 기준 ID) 비율 × 분포 구간
+        LocalDateTime end = LocalDateTime.now();
+        ContentFactory contentFactory = new ContentFactory(properties);
+        long baseId = nextIdBlock()[0];
+        long spreadNanos = properties.getCreatedAtSpread().toNanos();
+        LocalDateTime start = end.minusNanos(spreadNanos);
+
+        AtomicLong inserted = new AtomicLong();
+        long progressStep = Math.max(rows / 10, 1);
+        long startedAt = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                int chunkRows = (int) Math.min(batchSize, rows - chunk * batchSize);
+                futures.add(executor.submit(() -> {
+                    List<Object[]> batch = new ArrayList<>(chunkRows);
+                    for (long id : allocateIds(chunkRows)) {
+                        long offsetNanos = Math.min(spreadNanos, (long) ((double) (id - baseId) / rows * spreadNanos));
+                        batch.add(new Object[] {
+                                id,
+                                "시드 게시글 #" + id,
+                                contentFactory.next(),
+                                contentFactory.nextAuthor(),
+                                Timestamp.valueOf(start.plusNanos(offsetNanos))
+                        });
+                    }
+                    // 배치 하나를 트랜잭션 하나로 커밋
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+
+                    long total = inserted.addAndGet(chunkRows);
+                    if (total / progressStep != (total - chunkRows) / progressStep) {
+                        log.info("시드 진행: {}/{}건 ({} rows/s)", total, rows, rate(total, System.nanoTime() - startedAt));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("시드 데이터 적재 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        log.info("시드 데이터 적재 완료: {}건, {}초, {} rows/s",
+                rows, elapsed.toMillis() / 1000.0, rate(rows, elapsed.toNanos()));
+
+        // 카운터/캐시 등 파생 데이터가 DB 상태를 다시 읽도록 알림
+        eventPublisher.publishEvent(new PostsReloadedEvent(rows));
+        return new Result(rows, elapsed);
+    }
+
+    /**
+     * count개의 ID를 시퀀스 블록 단위로 할당
+     */
+    private long[] allocateIds(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            long[] block = nextIdBlock();
+            int length = Math.min(block.length, count - filled);
+            System.arraycopy(block, 0, ids, filled, length);
+            filled += length;
+        }
+        return ids;
+    }
+
+    /**
+     * 시퀀스 값 하나에 해당하는 ID 블록 (Hibernate pooled 옵티마이저와 동일한 v-49..v 구간)
+     */
+    private long[] nextIdBlock() {
+        long hi;
+        do {
+            hi = jdbcTemplate.queryForObject(NEXT_ID_BLOCK_SQL, Long.class);
+        } while (hi < Post.ID_ALLOCATION_SIZE); // 시퀀스 초기값 구간은 0 이하 ID가 나오므로 건너뜀
+
+        long[] block = new long[Post.ID_ALLOCATION_SIZE];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = hi - Post.ID_ALLOCATION_SIZE + 1 + i;
+        }
+        return block;
+    }
+
+    private static long rate(long rows, long nanos) {
+        return nanos == 0 ? rows : rows * 1_000_000_000L / nanos;
+    }
+
+    /**
+     * 적재 결과
+     */
+    public record Result(long rows, Duration elapsed) {
+
+        public long rowsPerSecond() {
+            return rate(rows, elapsed.toNanos());
+        }
+    }
+
+    /**
+     * 설정된 분포에 따라 본문과 작성자를 생성
+     */
+    private static class ContentFactory {
+
+        private final SeedProperties properties;
+        private final String source;
+
+        ContentFactory(SeedProperties properties) {
+            this.properties = properties;
+
+            // 최대 길이 이상의 원문을 미리 만들어 두고 임의 위치에서 잘라 사용
+            StringBuilder builder = new StringBuilder();
+            while (builder.length() < properties.getContentMaxLength() * 2) {
+                builder.append(CONTENT_SOURCE);
+            }
+            this.source = builder.toString();
+        }
+
+        String next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int min = properties.getContentMinLength();
+            int range = properties.getContentMaxLength() - min;
+            double ratio = switch (properties.getContentDistribution()) {
+                case UNIFORM -> random.nextDouble();
+                case LONG_TAIL -> Math.pow(random.nextDouble(), 4);
+            };
+            int length = min + (int) (range * ratio);
+            int offset = random.nextInt(source.length() - length + 1);
+            return source.substring(offset, offset + length);
+        }
+
+        String nextAuthor() {
+            double position = Math.pow(ThreadLocalRandom.current().nextDouble(), properties.getAuthorSkew());
+            return "작성자" + (int) (position * properties.getAuthors());
+        }
+    }
+}
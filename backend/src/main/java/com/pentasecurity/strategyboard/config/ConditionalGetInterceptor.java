@@ -0,0 +1,80 @@
+package com.pentasecurity.strategyboard.config;
+
+import com.pentasecurity.strategyboard.counter.BoardVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 게시글 목록/상세 조건부 GET 처리
+ * If-None-Match가 현재 버전 태그와 같으면 컨트롤러(전략, 리포지토리)를 거치지 않고 바로 304로 응답
+ *
+ * 200 응답의 ETag는 컨트롤러가 조회 전에 같은 BoardVersion 태그로 붙이므로,
+ * 태그보다 오래된 데이터가 응답에 담기는 경우는 없음 (버전은 커밋 이후에 증가)
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String LIST_PATH = "/api/posts";
+
+    private final BoardVersion boardVersion;
+
+    public ConditionalGetInterceptor(BoardVersion boardVersion) {
+        this.boardVersion = boardVersion;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String tag = currentTag(path);
+        // "*"는 현재 표현이 있을 때만 일치하는데, 상세 태그는 존재 여부를 확인하지 않고 만들므로
+        // 항상 존재하는 목록에만 적용 (상세는 컨트롤러가 200 또는 404로 응답)
+        if (tag == null || !matches(ifNoneMatch, "\"" + tag + "\"", LIST_PATH.equals(path))) {
+            return true;
+        }
+
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        response.setHeader(HttpHeaders.ETAG, "\"" + tag + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return false;
+    }
+
+    /**
+     * 경로별 현재 태그 (목록 또는 숫자 ID 상세만 대상, 그 밖의 경로는 null)
+     */
+    private String currentTag(String path) {
+        if (LIST_PATH.equals(path)) {
+            return boardVersion.boardTag();
+        }
+        String id = path.substring(LIST_PATH.length() + 1);
+        if (id.isEmpty() || id.length() > 18 || !id.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return boardVersion.postTag(Long.parseLong(id));
+    }
+
+    /**
+     * If-None-Match 목록 중 하나라도 태그와 같은지 (약한 비교: W/ 접두사 무시)
+     *
+     * @param wildcard "*"를 일치로 볼지 여부
+     */
+    private static boolean matches(String ifNoneMatch, String tag, boolean wildcard) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(tag) || (wildcard && trimmed.equals("*"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,15 +2,28 @@ package com.pentasecurity.strategyboard.config;
 
 import com.pentasecurity.strategyboard.entity.Post;
 import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class DataInitializer implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     private final PostRepository postRepository;
+    private final SeedProperties seedProperties;
+    private final BulkPostSeeder bulkPostSeeder;
 
-    public DataInitializer(PostRepository postRepository) {
+    public DataInitializer(PostRepository postRepository, SeedProperties seedProperties,
+                           BulkPostSeeder bulkPostSeeder) {
         this.postRepository = postRepository;
+        this.seedProperties = seedProperties;
+        this.bulkPostSeeder = bulkPostSeeder;
     }
 
     @Override
@@ -20,18 +33,25 @@ public class DataInitializer implements CommandLineRunner {
             return;
         }
 
-        // 테스트용 게시글 50개 생성
+        // 대용량 시드 설정(board.seed.rows)이 있으면 배치 시더로 적재
+        if (seedProperties.isEnabled()) {
+            bulkPostSeeder.seed(seedProperties);
+            return;
+        }
+
+        // 테스트용 게시글 50개 생성 (한 트랜잭션에서 배치 INSERT)
+        List<Post> posts = new ArrayList<>();
         for (int i = 1; i <= 50; i++) {
-            Post post = new Post(
+            posts.add(new Post(
                     "전략패턴 게시판 테스트 " + i,
                     "이것은 " + i + "번째 게시글입니다.\n\n" +
                             "전략패턴(Strategy Pattern)을 활용하여 무한스크롤과 페이징을 구현하는 " +
                             "게시판 시스템의 테스트 데이터입니다.\n\n" +
                             "Spring Boot + React를 사용하여 개발되었습니다.",
-                    "개발자" + (i % 10 + 1));
-            postRepository.save(post);
+                    "개발자" + (i % 10 + 1)));
         }
+        postRepository.saveAll(posts);
 
-        System.out.println("✅ 초기 데이터 50개 생성 완료!");
+        log.info("초기 데이터 50개 생성 완료");
     }
 }
@@ -0,0 +1,127 @@
+package com.pentasecurity.strategyboard.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pentasecurity.strategyboard.cache.PostJsonCache;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+/**
+ * PageResponse JSON 응답 작성기
+ * 페이지 정보는 Jackson 생성기로 쓰고, 게시글(PostDto)은 PostJsonCache의 직렬화 바이트 조각을 출력 스트림에 그대로 이어 붙임
+ * (보관 계층에서 읽은 게시글은 세그먼트에 저장된 JSON 바이트를 그대로 사용)
+ * (요약 DTO 등 그 밖의 항목은 Jackson으로 직렬화)
+ *
+ * 필드 구성과 순서는 Jackson이 PageResponse를 직렬화한 결과와 같아야 하며, PageResponse에 필드를 추가하면 여기도 추가해야 함
+ *
+ * 빈으로만 등록하며, Spring Boot가 변환기 빈을 기본 변환기(Jackson 포함)보다 앞에 한 번 추가함
+ */
+@Component
+public class PageResponseHttpMessageConverter extends AbstractHttpMessageConverter<PageResponse<?>> {
+
+    private final ObjectMapper objectMapper;
+    private final PostJsonCache postJsonCache;
+
+    public PageResponseHttpMessageConverter(ObjectMapper objectMapper, PostJsonCache postJsonCache) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        this.postJsonCache = postJsonCache;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PageResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        // 응답 전용
+        return false;
+    }
+
+    @Override
+    protected PageResponse<?> readInternal(Class<? extends PageResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PageResponse는 요청 본문으로 읽을 수 없습니다", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(PageResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        write(response, outputMessage.getBody());
+    }
+
+    /**
+     * 응답을 UTF-8 JSON으로 출력 (출력 스트림은 닫지 않음)
+     */
+    public void write(PageResponse<?> response, OutputStream out) throws IOException {
+        WritableByteChannel channel = Channels.newChannel(out);
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 조각마다 생성기 버퍼를 비우므로, 그때마다 응답 스트림까지 flush되지 않도록 함
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            for (Object item : response.getContent()) {
+                if (item instanceof PostDto post) {
+                    // 보관 게시글은 세그먼트 매핑 영역의 JSON을 그대로 출력 (JSON 캐시를 거치지 않음)
+                    Optional<ByteBuffer> encoded = post.encodedJson();
+                    writeFragment(generator, out, channel, encoded.isPresent()
+                            ? encoded.get()
+                            : ByteBuffer.wrap(postJsonCache.fragment(post)));
+                } else {
+                    objectMapper.writeValue(generator, item);
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeNumberField("page", response.getPage());
+            generator.writeNumberField("size", response.getSize());
+            generator.writeNumberField("totalElements", response.getTotalElements());
+            generator.writeNumberField("totalPages", response.getTotalPages());
+            generator.writeBooleanField("first", response.isFirst());
+            generator.writeBooleanField("last", response.isLast());
+            generator.writeBooleanField("hasNext", response.isHasNext());
+            generator.writeFieldName("nextCursor");
+            if (response.getNextCursor() != null) {
+                generator.writeNumber(response.getNextCursor());
+            } else {
+                generator.writeNull();
+            }
+            generator.writeStringField("nextToken", response.getNextToken());
+            generator.writeStringField("prevToken", response.getPrevToken());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 이미 인코딩된 JSON 객체를 배열 원소로 출력
+     * 생성기에는 빈 원시 값만 써서 구분자(,)와 배열 상태를 맞추고, 버퍼를 비운 뒤 조각은 출력 스트림에 바로 씀
+     */
+    private static void writeFragment(JsonGenerator generator, OutputStream out, WritableByteChannel channel,
+                                      ByteBuffer json) throws IOException {
+        generator.writeRawValue("");
+        generator.flush();
+        if (json.hasArray()) {
+            out.write(json.array(), json.arrayOffset() + json.position(), json.remaining());
+            return;
+        }
+        // 메모리 매핑 영역은 채널을 통해 출력 (힙 배열로 한 번에 복사하지 않음)
+        while (json.hasRemaining()) {
+            channel.write(json);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.pentasecurity.strategyboard.config;
+
+import com.pentasecurity.strategyboard.datasource.CommitTrackingDataSource;
+import com.pentasecurity.strategyboard.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (board.datasource.replicas가 있을 때만 적용)
+ *
+ * 기본 DataSource(spring.datasource)를 LazyConnectionDataSourceProxy로 감싸고, 읽기 전용 대상에 복제본 라우터를 지정.
+ * 프록시는 첫 SQL 실행 시점에 실제 커넥션을 얻으므로 그때 이미 읽기 전용으로 표시된 트랜잭션
+ * (readOnly = true, 리포지토리 조회 메서드 기본값)만 복제본으로 가고 그 밖의 커넥션은 모두 기본 DataSource를 사용.
+ * 쓰기 커넥션의 커밋은 복제본 라우터에 알려, 복제본이 그 커밋을 따라잡기 전까지 읽기도 기본 DataSource로 보냄
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.replicas[0].url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaProperties replicaProperties,
+                                                             MeterRegistry meterRegistry) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new CommitTrackingDataSource(primaryDataSource, replicaRoutingDataSource::markCommit));
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,135 @@
+package com.pentasecurity.strategyboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 설정 (board.datasource.*)
+ * replicas가 비어 있으면 모든 조회가 기본 DataSource(spring.datasource)를 사용
+ */
+@Component
+@ConfigurationProperties(prefix = "board.datasource")
+public class ReplicaProperties {
+
+    /**
+     * 복제본 선택 방식
+     */
+    public enum Selection {
+        // 차례대로 돌아가며 선택
+        ROUND_ROBIN,
+        // 사용 중인 커넥션이 가장 적은 복제본 선택 (같으면 차례대로)
+        LEAST_LOADED
+    }
+
+    // 읽기 복제본 목록
+    private List<Replica> replicas = new ArrayList<>();
+
+    private Selection selection = Selection.LEAST_LOADED;
+
+    // 이 시간보다 뒤처진 복제본은 조회에서 제외 (모두 제외되면 기본 DataSource로 조회)
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // 복제 지연 측정(하트비트 기록/확인) 주기
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    /**
+     * 복제본 접속 정보
+     */
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username = "sa";
+        private String password = "";
+        private int maximumPoolSize = 10;
+
+        // 커넥션 획득 대기 시간 (넘기면 기본 DataSource로 조회, 내려간 복제본에서 오래 기다리지 않도록 짧게)
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+        // Getters and Setters
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+
+    // Getters and Setters
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Selection getSelection() {
+        return selection;
+    }
+
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getLagCheckInterval() {
+        return lagCheckInterval;
+    }
+
+    public void setLagCheckInterval(Duration lagCheckInterval) {
+        this.lagCheckInterval = lagCheckInterval;
+    }
+}
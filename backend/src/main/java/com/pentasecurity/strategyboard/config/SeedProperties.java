@@ -0,0 +1,123 @@
+package com.pentasecurity.strategyboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 대용량 시드 데이터 설정 (board.seed.*)
+ * rows가 0이면 기본 샘플 게시글 50개만 생성
+ */
+@Component
+@ConfigurationProperties(prefix = "board.seed")
+public class SeedProperties {
+
+    /**
+     * 게시글 본문 길이 분포
+     */
+    public enum ContentDistribution {
+        // 최소~최대 길이 균등 분포
+        UNIFORM,
+        // 대부분 짧고 일부만 긴 롱테일 분포 (실제 게시판과 유사)
+        LONG_TAIL
+    }
+
+    // 생성할 게시글 수
+    private long rows = 0;
+
+    // 작성자 수 (카디널리티)
+    private int authors = 1000;
+
+    // 작성자 쏠림 정도 (1이면 균등, 클수록 소수 작성자에게 게시글이 몰림)
+    private double authorSkew = 1.0;
+
+    // 본문 길이 범위와 분포
+    private int contentMinLength = 50;
+    private int contentMaxLength = 5000;
+    private ContentDistribution contentDistribution = ContentDistribution.LONG_TAIL;
+
+    // 작성일 분포 구간 (현재 시각 기준 과거로)
+    private Duration createdAtSpread = Duration.ofDays(365);
+
+    // 동시 INSERT 스레드 수와 배치(트랜잭션) 크기
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 1000;
+
+    public boolean isEnabled() {
+        return rows > 0;
+    }
+
+    // Getters and Setters
+    public long getRows() {
+        return rows;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public int getAuthors() {
+        return authors;
+    }
+
+    public void setAuthors(int authors) {
+        this.authors = authors;
+    }
+
+    public double getAuthorSkew() {
+        return authorSkew;
+    }
+
+    public void setAuthorSkew(double authorSkew) {
+        this.authorSkew = authorSkew;
+    }
+
+    public int getContentMinLength() {
+        return contentMinLength;
+    }
+
+    public void setContentMinLength(int contentMinLength) {
+        this.contentMinLength = contentMinLength;
+    }
+
+    public int getContentMaxLength() {
+        return contentMaxLength;
+    }
+
+    public void setContentMaxLength(int contentMaxLength) {
+        this.contentMaxLength = contentMaxLength;
+    }
+
+    public ContentDistribution getContentDistribution() {
+        return contentDistribution;
+    }
+
+    public void setContentDistribution(ContentDistribution contentDistribution) {
+        this.contentDistribution = contentDistribution;
+    }
+
+    public Duration getCreatedAtSpread() {
+        return createdAtSpread;
+    }
+
+    public void setCreatedAtSpread(Duration createdAtSpread) {
+        this.createdAtSpread = createdAtSpread;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -2,22 +2,38 @@ package com.pentasecurity.strategyboard.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Web MVC 설정
  * CORS 설정을 통해 React 프론트엔드와의 통신 허용
+ * 게시글 목록/상세 조회에는 조건부 GET(ETag) 처리 적용
+ * 페이지 응답 작성기(PageResponseHttpMessageConverter)는 빈으로 등록되어 Spring Boot가 기본 변환기보다 앞에 한 번만 추가함
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    public WebConfig(ConditionalGetInterceptor conditionalGetInterceptor) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:3000") // React 개발 서버
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag")
                 .allowCredentials(true)
                 .maxAge(3600); // preflight 요청 캐시 시간
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/posts", "/api/posts/*");
+    }
+}
@@ -1,47 +1,89 @@
 package com.pentasecurity.strategyboard.controller;
 
+import com.pentasecurity.strategyboard.counter.BoardVersion;
+import com.pentasecurity.strategyboard.dto.PostBatchCreateRequest;
+import com.pentasecurity.strategyboard.dto.PostBatchCreateResponse;
 import com.pentasecurity.strategyboard.dto.PostDto;
 import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PostMultiGetRequest;
+import com.pentasecurity.strategyboard.dto.PostMultiGetResponse;
 import com.pentasecurity.strategyboard.dto.PageResponse;
 import com.pentasecurity.strategyboard.service.PostService;
+import com.pentasecurity.strategyboard.stream.PostFeedPublisher;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 게시글 관련 REST API Controller
  * 프론트엔드와의 HTTP 통신을 담당
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/posts")
 @CrossOrigin(origins = "http://localhost:3000") // React 개발 서버
 public class PostController {
 
     private final PostService postService;
+    private final BoardVersion boardVersion;
+    private final PostFeedPublisher postFeedPublisher;
+    private final long exportTimeoutMillis;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, BoardVersion boardVersion, PostFeedPublisher postFeedPublisher,
+                          @Value("${board.export.timeout:PT0S}") Duration exportTimeout) {
         this.postService = postService;
+        this.boardVersion = boardVersion;
+        this.postFeedPublisher = postFeedPublisher;
+        // 0 이하는 시간 제한 없음(-1)으로 전달
+        this.exportTimeoutMillis = exportTimeout.isZero() || exportTimeout.isNegative() ? -1 : exportTimeout.toMillis();
     }
 
     /**
      * 게시글 목록 조회 (전략패턴 적용)
+     * 응답에는 게시판 전체 버전 ETag가 붙으며, 바뀐 게시글이 없으면 다음 요청은 304로 응답
      * 
-     * @param strategy 로딩 전략 ("pagination" 또는 "infinite")
+     * @param strategy 로딩 전략 ("pagination", "infinite", "keyset-pagination", "auto", "search")
      * @param page     페이지 번호 (pagination용)
      * @param size     페이지 크기
-     * @param lastId   마지막 게시글 ID (infinite scroll용)
+     * @param lastId   마지막 게시글 ID (infinite scroll, keyset-pagination, auto, search용)
+     * @param view     응답 형태 ("full": 본문 포함, "summary": 미리보기만 포함)
+     * @param sort     정렬 기준 ("id,desc", "createdAt,asc", "author,asc" 등, infinite용)
+     * @param cursor   응답의 nextToken/prevToken (infinite용, lastId 대신 사용)
+     * @param keyword  검색어 (search용)
+     * @param author   작성자 필터 (pagination, infinite용)
      * @return 게시글 목록과 페이징 정보
      */
     @GetMapping
-    public ResponseEntity<PageResponse<PostDto>> getPosts(
+    public ResponseEntity<PageResponse<?>> getPosts(
             @RequestParam(defaultValue = "pagination") String strategy,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Long lastId) {
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String author) {
+
+        // 조회 전에 태그를 정해야 태그보다 오래된 데이터가 응답에 담기지 않음
+        String etag = boardVersion.boardTag();
 
         // 요청 파라미터를 DTO로 변환
         PostListRequest request = new PostListRequest();
@@ -49,23 +91,108 @@ public class PostController {
         request.setPage(page);
         request.setSize(size);
         request.setLastId(lastId);
+        request.setView(view);
+        request.setSort(sort);
+        request.setCursor(cursor);
+        request.setKeyword(keyword);
+        request.setAuthor(author);
 
-        // 서비스 호출
-        PageResponse<PostDto> response = postService.getPosts(request);
+        // 서비스 호출 (요약 요청이면 본문 없이 조회)
+        PageResponse<?> response = request.isSummaryView()
+                ? postService.getPostSummaries(request)
+                : postService.getPosts(request);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     /**
      * 특정 게시글 조회
+     * 응답에는 게시글 버전 ETag가 붙으며, 게시글이 바뀌지 않았으면 다음 요청은 304로 응답
      * 
      * @param id 게시글 ID
      * @return 게시글 상세 정보
      */
     @GetMapping("/{id}")
     public ResponseEntity<PostDto> getPost(@PathVariable Long id) {
+        String etag = boardVersion.postTag(id);
         PostDto post = postService.getPost(id);
-        return ResponseEntity.ok(post);
+
+        // 조회 도중 삭제된 경우에는 태그 없이 응답
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        return etag != null ? builder.eTag(etag).body(post) : builder.body(post);
+    }
+
+    /**
+     * 여러 게시글 한 번에 조회
+     * 
+     * @param request 게시글 ID 목록 (ids=1,2,3 또는 ids=1&ids=2, 최대 1000개)
+     * @return 요청 순서대로 정렬된 게시글과 존재하지 않는 ID 목록
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<PostMultiGetResponse> getPostsByIds(@Valid PostMultiGetRequest request) {
+        return ResponseEntity.ok(postService.getPostsByIds(request.getIds()));
+    }
+
+    /**
+     * 여러 게시글 한 번에 조회 (URL에 담기 어려운 긴 ID 목록용)
+     * 
+     * @param request 게시글 ID 목록 (최대 1000개)
+     * @return 요청 순서대로 정렬된 게시글과 존재하지 않는 ID 목록
+     */
+    @PostMapping("/batch/query")
+    public ResponseEntity<PostMultiGetResponse> queryPostsByIds(@Valid @RequestBody PostMultiGetRequest request) {
+        return ResponseEntity.ok(postService.getPostsByIds(request.getIds()));
+    }
+
+    /**
+     * 게시글 일괄 등록
+     * 한 번의 요청/트랜잭션으로 수천 건을 JDBC 배치 INSERT로 저장
+     * 
+     * @param request 등록할 게시글 목록
+     * @return 등록 건수와 할당된 ID 범위
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<PostBatchCreateResponse> createPosts(@Valid @RequestBody PostBatchCreateRequest request) {
+        PostBatchCreateResponse response = postService.createPosts(request.getPosts());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 전체 게시글 내보내기 (NDJSON 스트리밍)
+     * 페이지 단위 왕복 없이 한 번의 요청으로 전체 게시판을 ID 순으로 전송.
+     * 게시글 수에 따라 오래 걸릴 수 있으므로 이 응답만 board.export.timeout(기본 0, 시간 제한 없음)을 적용하고
+     * 나머지 비동기 응답은 기본 시간 제한을 그대로 따름
+     * 
+     * @return 한 줄에 게시글 하나씩 담긴 application/x-ndjson 스트림
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts(HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeoutMillis);
+        StreamingResponseBody body = postService::exportPosts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 새 게시글 실시간 피드 (Server-Sent Events)
+     * 목록을 다시 조회하지 않아도 새로 등록된 게시글을 posts 이벤트(게시글 배열)로 받음.
+     * 느린 연결에서 게시글이 버려지면 resync 이벤트가 오며, 이때는 첫 페이지를 다시 조회해야 함
+     * 
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (브라우저 EventSource가 자동으로 보냄)
+     * @return text/event-stream 연결, 구독자 수 한도를 넘으면 503
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamPosts(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return postFeedPublisher.subscribe(lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
     }
 
     /**
@@ -0,0 +1,117 @@
+package com.pentasecurity.strategyboard.controller;
+
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.service.ReactivePostService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 조회 REST API Controller (reactive 프로파일, WebFlux)
+ * PostController와 같은 경로/응답 형식의 조회 API를 논블로킹으로 제공 (등록/실시간 피드 등은 서블릿 스택 전용)
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/posts")
+@CrossOrigin(origins = "http://localhost:3000") // React 개발 서버
+public class ReactivePostController {
+
+    private final ReactivePostService reactivePostService;
+
+    public ReactivePostController(ReactivePostService reactivePostService) {
+        this.reactivePostService = reactivePostService;
+    }
+
+    /**
+     * 게시글 목록 조회 (전략패턴 적용)
+     * 
+     * @param strategy 로딩 전략 ("pagination", "infinite")
+     * @param page     페이지 번호 (pagination용)
+     * @param size     페이지 크기
+     * @param lastId   마지막 게시글 ID (infinite용)
+     * @param view     응답 형태 ("full": 본문 포함, "summary": 미리보기만 포함)
+     * @param author   작성자 필터 (지원하지 않으며, 지정하면 400)
+     * @return 게시글 목록과 페이징 정보
+     */
+    @GetMapping
+    public Mono<? extends PageResponse<?>> getPosts(
+            @RequestParam(defaultValue = "pagination") String strategy,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long lastId,
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String author) {
+
+        PostListRequest request = new PostListRequest();
+        request.setStrategy(strategy);
+        request.setPage(page);
+        request.setSize(size);
+        request.setLastId(lastId);
+        request.setView(view);
+        request.setSort(sort);
+        request.setCursor(cursor);
+        request.setAuthor(author);
+
+        return request.isSummaryView()
+                ? reactivePostService.getPostSummaries(request)
+                : reactivePostService.getPosts(request);
+    }
+
+    /**
+     * 특정 게시글 조회
+     * 
+     * @param id 게시글 ID
+     * @return 게시글 상세 정보
+     */
+    @GetMapping("/{id}")
+    public Mono<PostDto> getPost(@PathVariable Long id) {
+        return reactivePostService.getPost(id);
+    }
+
+    /**
+     * 전체 게시글 내보내기 (NDJSON 스트리밍)
+     * 클라이언트가 읽는 속도에 맞춰 다음 묶음을 조회 (배압)
+     * 
+     * @return 한 줄에 게시글 하나씩 담긴 application/x-ndjson 스트림
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PostDto> exportPosts() {
+        return reactivePostService.exportPosts();
+    }
+
+    /**
+     * 헬스 체크용 API
+     * 
+     * @return 서버 상태 정보
+     */
+    @GetMapping("/health")
+    public Map<String, Object> health() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("status", "UP");
+        status.put("timestamp", LocalDateTime.now());
+        status.put("stack", "reactive");
+        status.put("availableStrategies", reactivePostService.getAvailableStrategies());
+        return status;
+    }
+
+    /**
+     * 사용 가능한 로딩 전략 목록 조회
+     * 
+     * @return 지원하는 전략 목록
+     */
+    @GetMapping("/strategies")
+    public Set<String> getAvailableStrategies() {
+        return reactivePostService.getAvailableStrategies();
+    }
+}
@@ -0,0 +1,78 @@
+package com.pentasecurity.strategyboard.counter;
+
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판 전체 버전과 게시글별 버전
+ * 조건부 GET(ETag)에서 DB 조회 없이 응답 변경 여부를 판단하기 위해 사용
+ *
+ * 게시글 변경 이벤트(커밋 이후)마다 전체 버전이 1씩 증가하고, 수정/삭제된 게시글은 그 시점의 전체 버전을 자기 버전으로 가짐.
+ * 한 번도 수정되지 않은 게시글의 버전은 0이며, 메모리에만 보관하므로 기동 시각(epoch)을 함께 써서 재시작 전 태그와 구분
+ */
+@Component
+public class BoardVersion {
+
+    // 삭제된 게시글 표시 (태그를 만들지 않음)
+    private static final long DELETED = -1;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Long, Long> postVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 목록 응답용 태그 (게시글이 하나라도 바뀌면 달라짐)
+     */
+    public String boardTag() {
+        return epoch + "-" + version.get();
+    }
+
+    /**
+     * 게시글 상세 응답용 태그
+     *
+     * @return 삭제된 게시글이면 null
+     */
+    public String postTag(long id) {
+        long postVersion = postVersions.getOrDefault(id, 0L);
+        return postVersion == DELETED ? null : epoch + "-" + id + "-" + postVersion;
+    }
+
+    /**
+     * 커밋된 게시글 변경을 반영 (롤백된 트랜잭션은 무시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        long next = version.incrementAndGet();
+        switch (event.getType()) {
+            case UPDATED -> postVersions.put(event.getPost().getId(), next);
+            case DELETED -> postVersions.put(event.getPost().getId(), DELETED);
+            default -> {
+                // 새 게시글은 버전 0으로 시작
+            }
+        }
+    }
+
+    /**
+     * 대량 적재는 건별 이벤트가 없으므로 목록 태그만 갱신 (기존 게시글은 바뀌지 않음)
+     */
+    @EventListener
+    public void onPostsReloaded(PostsReloadedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 보관으로 목록 구성만 바뀜 (보관 게시글의 상세 태그는 내용이 그대로이므로 유지)
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        version.incrementAndGet();
+    }
+}
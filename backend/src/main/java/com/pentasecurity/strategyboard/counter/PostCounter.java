@@ -0,0 +1,73 @@
+package com.pentasecurity.strategyboard.counter;
+
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수 카운터
+ * 페이징 요청마다 COUNT(*)를 실행하지 않도록 게시글 생성/삭제 이벤트로 증감하고,
+ * 동시성으로 인한 오차는 주기적인 DB 재동기화로 보정
+ */
+@Component
+public class PostCounter {
+
+    private final PostRepository postRepository;
+    private final AtomicLong count = new AtomicLong();
+
+    public PostCounter(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 현재 게시글 수
+     */
+    public long get() {
+        return count.get();
+    }
+
+    /**
+     * 커밋된 게시글 생성/삭제만 반영 (롤백된 트랜잭션은 무시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> count.incrementAndGet();
+            case DELETED -> count.decrementAndGet();
+            default -> {
+                // 수정은 건수에 영향 없음
+            }
+        }
+    }
+
+    /**
+     * 대량 적재 후에는 건별 이벤트가 없으므로 즉시 재동기화
+     */
+    @EventListener
+    public void onPostsReloaded(PostsReloadedEvent event) {
+        resync();
+    }
+
+    /**
+     * 보관 작업이 DB에서 삭제한 행 수만큼 차감 (건수 조회 없음)
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        count.addAndGet(-event.getRemovedRows());
+    }
+
+    /**
+     * DB의 실제 건수로 재동기화 (애플리케이션 시작 시 즉시 1회, 이후 주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${board.counter.resync-interval:PT5M}")
+    public void resync() {
+        count.set(postRepository.count());
+    }
+}
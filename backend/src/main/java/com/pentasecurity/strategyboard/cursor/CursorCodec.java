@@ -0,0 +1,48 @@
+package com.pentasecurity.strategyboard.cursor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pentasecurity.strategyboard.exception.InvalidCursorException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * 커서 토큰 인코더/디코더
+ * 토큰은 URL에 그대로 넣을 수 있도록 JSON을 Base64 URL-safe(패딩 없음)로 인코딩한 불투명 문자열
+ */
+@Component
+public class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+
+    public CursorCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(CursorToken token) {
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(token));
+        } catch (IOException e) {
+            throw new IllegalStateException("커서 토큰 생성 실패", e);
+        }
+    }
+
+    /**
+     * @throws InvalidCursorException 손상되었거나 이 서버가 발급하지 않은 형식의 토큰인 경우
+     */
+    public CursorToken decode(String value) {
+        try {
+            CursorToken token = objectMapper.readValue(DECODER.decode(value), CursorToken.class);
+            if (token.sort() == null || token.direction() == null) {
+                throw new InvalidCursorException("잘못된 커서 토큰입니다");
+            }
+            return token;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidCursorException("잘못된 커서 토큰입니다", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.pentasecurity.strategyboard.cursor;
+
+/**
+ * 커서 토큰의 내용
+ * 정렬 기준, 기준 게시글의 정렬 키 값과 ID, 이동 방향을 담아 다음/이전 페이지를 OFFSET 없이 이어서 조회
+ *
+ * @param sort      정렬 기준
+ * @param key       기준 게시글의 정렬 키 값 (ID 정렬이면 null)
+ * @param id        기준 게시글 ID (정렬 키가 같은 게시글 사이의 보조 키)
+ * @param direction 기준 게시글 다음(NEXT) 또는 이전(PREV) 방향
+ */
+public record CursorToken(PostSort sort, String key, long id, Direction direction) {
+
+    public enum Direction {
+        NEXT, PREV
+    }
+
+    public boolean isBackward() {
+        return direction == Direction.PREV;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pentasecurity.strategyboard.cursor;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.exception.InvalidCursorException;
+
+import java.util.Arrays;
+
+/**
+ * 커서 기반 목록의 정렬 기준
+ * 모든 정렬은 동일 키 값 사이의 순서를 고정하기 위해 게시글 ID를 보조 키(tiebreaker)로 사용
+ */
+public enum PostSort {
+
+    ID_DESC("id,desc"),
+    ID_ASC("id,asc"),
+    CREATED_AT_DESC("createdAt,desc"),
+    CREATED_AT_ASC("createdAt,asc"),
+    AUTHOR_ASC("author,asc"),
+    AUTHOR_DESC("author,desc");
+
+    private final String value;
+
+    PostSort(String value) {
+        this.value = value;
+    }
+
+    /**
+     * 요청 파라미터 값("createdAt,asc" 형식)을 정렬 기준으로 변환
+     *
+     * @param value 정렬 값 (없으면 ID 내림차순)
+     * @return 정렬 기준
+     * @throws InvalidCursorException 지원하지 않는 정렬인 경우
+     */
+    public static PostSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return ID_DESC;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.value.equalsIgnoreCase(value.replace(" ", "")))
+                .findFirst()
+                .orElseThrow(() -> new InvalidCursorException(
+                        "지원하지 않는 정렬입니다: " + value + ". 지원하는 정렬: " + Arrays.toString(values())));
+    }
+
+    /**
+     * 같은 키로 반대 방향 정렬 (이전 페이지 탐색에 사용)
+     */
+    public PostSort reverse() {
+        return switch (this) {
+            case ID_DESC -> ID_ASC;
+            case ID_ASC -> ID_DESC;
+            case CREATED_AT_DESC -> CREATED_AT_ASC;
+            case CREATED_AT_ASC -> CREATED_AT_DESC;
+            case AUTHOR_ASC -> AUTHOR_DESC;
+            case AUTHOR_DESC -> AUTHOR_ASC;
+        };
+    }
+
+    /**
+     * 게시글에서 정렬 키 값을 추출 (ID 정렬은 보조 키만 사용하므로 null)
+     */
+    public String keyOf(PostDto post) {
+        return switch (this) {
+            case ID_DESC, ID_ASC -> null;
+            case CREATED_AT_DESC, CREATED_AT_ASC -> post.getCreatedAt().toString();
+            case AUTHOR_ASC, AUTHOR_DESC -> post.getAuthor();
+        };
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
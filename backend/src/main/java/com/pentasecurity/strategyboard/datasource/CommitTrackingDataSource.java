@@ -0,0 +1,66 @@
+package com.pentasecurity.strategyboard.datasource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 쓰기 커넥션의 커밋 시점을 알리는 DataSource
+ * LazyConnectionDataSourceProxy의 기본(쓰기) 대상으로 등록되어, 커밋 직후 onCommit을 호출함.
+ * 커밋 이후 실행되는 트랜잭션 이벤트 리스너(캐시 무효화/재적재)보다 먼저 호출됨
+ *
+ * 게시글 쓰기는 모두 트랜잭션 안에서 실행되므로 자동 커밋 커넥션은 추적하지 않음
+ * (트랜잭션 밖의 조회가 반환될 때마다 복제본을 제외하지 않도록)
+ */
+public class CommitTrackingDataSource extends DelegatingDataSource {
+
+    private final Runnable onCommit;
+
+    public CommitTrackingDataSource(DataSource target, Runnable onCommit) {
+        super(target);
+        this.onCommit = onCommit;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection track(Connection target) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTargetConnection":
+                            return target;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (method.getName().equals("commit")) {
+                        onCommit.run();
+                    }
+                    return result;
+                });
+    }
+}
@@ -0,0 +1,285 @@
+package com.pentasecurity.strategyboard.datasource;
+
+import com.pentasecurity.strategyboard.config.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 커넥션을 복제본 풀에 분배하는 DataSource
+ * LazyConnectionDataSourceProxy의 읽기 전용 대상으로 등록되어, 읽기 전용 트랜잭션의 커넥션만 이곳을 거침 (쓰기는 항상 기본 DataSource)
+ *
+ * 복제 지연은 하트비트로 측정: 주기마다 기본 DB의 replica_heartbeat 행에 기록 시각을 쓰고,
+ * 각 복제본에서 읽은 값이 직전에 기록한 값보다 얼마나 뒤처졌는지를 지연으로 봄.
+ * 지연이 max-lag를 넘거나 확인에 실패한 복제본은 제외하며, 남은 복제본이 없으면 기본 DataSource로 조회
+ *
+ * 쓰기 커밋(CommitTrackingDataSource가 알림) 뒤에는 그 이후에 기록된 하트비트를 읽은 복제본만 조회 대상으로 삼음 (read-your-writes).
+ * 상세/작성자/다음 페이지 캐시와 BoardVersion ETag는 모든 사용자가 공유하므로, 커밋 직후의 재적재가
+ * 커밋 이전 행을 가진 복제본에서 채워지지 않도록 복제본이 따라잡을 때까지(하트비트 측정 한두 주기) 기본 DataSource로 조회
+ *
+ * 복제본 풀은 기동 시 접속을 시도하지 않으므로(initializationFailTimeout = -1) 복제본이 내려가 있어도 기동은 성공하고,
+ * 첫 측정에서 제외된 채로 기본 DataSource로 조회함
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReplicaProperties.Selection selection;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    // 마지막 쓰기 커밋 시각 (이 값보다 뒤에 기록된 하트비트를 읽은 복제본만 조회 대상)
+    private final AtomicLong lastCommit = new AtomicLong();
+    private final Counter primaryReads;
+
+    // 마지막으로 기본 DB에 기록한 하트비트 (아직 없으면 0)
+    private volatile long lastBeat;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.selection = properties.getSelection();
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.primaryReads = readCounter(meterRegistry, PRIMARY);
+
+        for (ReplicaProperties.Replica config : properties.getReplicas()) {
+            String name = config.getName() != null ? config.getName() : "replica-" + (replicas.size() + 1);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(config.getUrl());
+            dataSource.setUsername(config.getUsername());
+            dataSource.setPassword(config.getPassword());
+            dataSource.setMaximumPoolSize(config.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(config.getConnectionTimeout().toMillis());
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setReadOnly(true);
+
+            Replica replica = new Replica(name, dataSource, readCounter(meterRegistry, name));
+            replicas.add(replica);
+            Gauge.builder("board.datasource.replica.lag", replica, r -> r.lagMillis < 0 ? Double.NaN : r.lagMillis)
+                    .description("복제본 지연 (밀리초, 측정 실패 시 NaN)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 하트비트 테이블을 준비하고 첫 하트비트 기록 후 측정 (측정 전까지는 모든 복제본이 제외됨)
+     */
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        }
+        writeBeat();
+        checkLag();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 쓰기 커밋 기록 (커밋 직후 호출, 이후 하트비트를 읽기 전까지 복제본을 조회 대상에서 제외)
+     */
+    public void markCommit() {
+        lastCommit.accumulateAndGet(System.currentTimeMillis(), Math::max);
+    }
+
+    /**
+     * 복제본별 지연 측정 후 하트비트 기록
+     * 측정을 먼저 하므로, 따라잡은 복제본은 직전 하트비트를 읽어 지연 0이 됨
+     */
+    @Scheduled(fixedDelayString = "${board.datasource.lag-check-interval:PT1S}")
+    public void checkLag() {
+        long expected = lastBeat;
+        for (Replica replica : replicas) {
+            long beat = readBeat(replica);
+            replica.lastSeenBeat = beat;
+            replica.lagMillis = beat < 0 ? -1 : Math.max(0, expected - beat);
+            boolean healthy = replica.lagMillis >= 0 && replica.lagMillis <= maxLagMillis;
+            if (healthy != replica.healthy) {
+                log.info("복제본 {} {} (지연 {}ms)", replica.name, healthy ? "조회 대상 복귀" : "조회 대상 제외",
+                        replica.lagMillis);
+            }
+            replica.healthy = healthy;
+        }
+        writeBeat();
+    }
+
+    /**
+     * 선택한 복제본에서 커넥션을 얻고, 조회 대상 복제본이 없거나 실패하면 기본 DataSource에서 얻음
+     */
+    private Connection route(ConnectionSource source) throws SQLException {
+        Replica replica = select();
+        if (replica != null) {
+            try {
+                Connection connection = source.connect(replica.dataSource);
+                replica.reads.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                // 풀이 지원하지 않는 요청 (복제본 상태와 무관)
+                log.debug("복제본에서 지원하지 않는 커넥션 요청, 기본 DataSource로 조회: {}", replica.name, e);
+            } catch (SQLException | RuntimeException e) {
+                // 다음 측정까지 제외하고 기본 DataSource로 조회 (풀 초기화 실패는 RuntimeException)
+                replica.healthy = false;
+                log.warn("복제본 커넥션 획득 실패, 기본 DataSource로 조회: {}", replica.name, e);
+            }
+        }
+        primaryReads.increment();
+        return source.connect(primary);
+    }
+
+    private void writeBeat() {
+        // 같은 밀리초의 커밋보다 항상 뒤로 기록 (이 하트비트를 읽은 복제본은 그 커밋을 포함)
+        long beat = Math.max(System.currentTimeMillis(), lastCommit.get() + 1);
+        try (Connection connection = primary.getConnection();
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1")) {
+            update.setLong(1, beat);
+            if (update.executeUpdate() == 0) {
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)")) {
+                    insert.setLong(1, beat);
+                    insert.executeUpdate();
+                }
+            }
+            lastBeat = beat;
+        } catch (SQLException e) {
+            log.warn("복제 하트비트 기록 실패", e);
+        }
+    }
+
+    /**
+     * 복제본별 상태 (이름 → 조회 대상 여부/지연)
+     */
+    public Map<String, Map<String, Object>> status() {
+        Map<String, Map<String, Object>> status = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("healthy", replica.healthy);
+            state.put("lagMillis", replica.lagMillis);
+            status.put(replica.name, state);
+        }
+        return status;
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    /**
+     * @return 복제본에서 읽은 하트비트, 읽지 못하면 -1
+     */
+    private static long readBeat(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT beat_at FROM replica_heartbeat WHERE id = 1")) {
+            if (!rs.next()) {
+                return -1;
+            }
+            return rs.getLong(1);
+        } catch (SQLException | RuntimeException e) {
+            log.debug("복제본 지연 측정 실패: {}", replica.name, e);
+            return -1;
+        }
+    }
+
+    /**
+     * 조회 대상 복제본 선택 (마지막 커밋 이후를 읽지 못한 복제본은 제외, 없으면 null)
+     */
+    private Replica select() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        Replica selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        long committed = lastCommit.get();
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy || replica.lastSeenBeat <= committed) {
+                continue;
+            }
+            if (selection == ReplicaProperties.Selection.ROUND_ROBIN) {
+                return replica;
+            }
+            int load = replica.activeConnections();
+            if (load < selectedLoad) {
+                selected = replica;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("board.datasource.reads")
+                .description("읽기 전용 커넥션 획득 수 (조회한 DataSource별)")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * 복제본 커넥션 풀과 상태
+     */
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final Counter reads;
+        private volatile boolean healthy;
+        private volatile long lagMillis = -1;
+        private volatile long lastSeenBeat = -1;
+
+        Replica(String name, HikariDataSource dataSource, Counter reads) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.reads = reads;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+    }
+}
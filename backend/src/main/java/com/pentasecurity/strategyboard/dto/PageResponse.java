@@ -1,6 +1,8 @@
 package com.pentasecurity.strategyboard.dto;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class PageResponse<T> {
     private List<T> content;
@@ -12,6 +14,8 @@ public class PageResponse<T> {
     private boolean last;
     private boolean hasNext;
     private Long nextCursor; // 무한스크롤용
+    private String nextToken; // 커서 토큰 (다음 페이지)
+    private String prevToken; // 커서 토큰 (이전 페이지)
 
     // 기본 생성자
     public PageResponse() {
@@ -37,6 +41,36 @@ public class PageResponse<T> {
         this.size = content.size();
     }
 
+    // 키셋 페이징용 생성자 (전체 건수 없이 다음 페이지 존재 여부로 first/last 판단)
+    public PageResponse(List<T> content, int page, int size, boolean hasNext, Long nextCursor) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.first = page == 0;
+        this.last = !hasNext;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 페이징/커서 정보는 그대로 두고 content 항목만 변환한 응답을 생성
+     */
+    public <R> PageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        PageResponse<R> mapped = new PageResponse<>();
+        mapped.content = content.stream().<R>map(mapper).collect(Collectors.toList());
+        mapped.page = page;
+        mapped.size = size;
+        mapped.totalElements = totalElements;
+        mapped.totalPages = totalPages;
+        mapped.first = first;
+        mapped.last = last;
+        mapped.hasNext = hasNext;
+        mapped.nextCursor = nextCursor;
+        mapped.nextToken = nextToken;
+        mapped.prevToken = prevToken;
+        return mapped;
+    }
+
     // Getters and Setters
     public List<T> getContent() {
         return content;
@@ -109,4 +143,20 @@ public class PageResponse<T> {
     public void setNextCursor(Long nextCursor) {
         this.nextCursor = nextCursor;
     }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public String getPrevToken() {
+        return prevToken;
+    }
+
+    public void setPrevToken(String prevToken) {
+        this.prevToken = prevToken;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.pentasecurity.strategyboard.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class PostBatchCreateRequest {
+
+    // 한 번에 등록할 수 있는 최대 게시글 수
+    public static final int MAX_POSTS = 10000;
+
+    @NotEmpty(message = "등록할 게시글이 없습니다")
+    @Size(max = MAX_POSTS, message = "한 번에 10000개까지 등록할 수 있습니다")
+    private List<@Valid PostCreateRequest> posts;
+
+    // 기본 생성자
+    public PostBatchCreateRequest() {
+    }
+
+    // 생성자
+    public PostBatchCreateRequest(List<PostCreateRequest> posts) {
+        this.posts = posts;
+    }
+
+    // Getters and Setters
+    public List<PostCreateRequest> getPosts() {
+        return posts;
+    }
+
+    public void setPosts(List<PostCreateRequest> posts) {
+        this.posts = posts;
+    }
+}
@@ -0,0 +1,43 @@
+package com.pentasecurity.strategyboard.dto;
+
+public class PostBatchCreateResponse {
+    private int created;
+    private Long firstId;
+    private Long lastId;
+
+    // 기본 생성자
+    public PostBatchCreateResponse() {
+    }
+
+    // 생성자
+    public PostBatchCreateResponse(int created, Long firstId, Long lastId) {
+        this.created = created;
+        this.firstId = firstId;
+        this.lastId = lastId;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public Long getFirstId() {
+        return firstId;
+    }
+
+    public void setFirstId(Long firstId) {
+        this.firstId = firstId;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(Long lastId) {
+        this.lastId = lastId;
+    }
+}
@@ -0,0 +1,55 @@
+package com.pentasecurity.strategyboard.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class PostCreateRequest {
+
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 200, message = "제목은 200자를 초과할 수 없습니다")
+    private String title;
+
+    @NotBlank(message = "내용은 필수입니다")
+    @Size(max = 5000, message = "내용은 5000자를 초과할 수 없습니다")
+    private String content;
+
+    @NotBlank(message = "작성자는 필수입니다")
+    @Size(max = 50, message = "작성자명은 50자를 초과할 수 없습니다")
+    private String author;
+
+    // 기본 생성자
+    public PostCreateRequest() {
+    }
+
+    // 생성자
+    public PostCreateRequest(String title, String content, String author) {
+        this.title = title;
+        this.content = content;
+        this.author = author;
+    }
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+}
@@ -1,7 +1,15 @@
 package com.pentasecurity.strategyboard.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.pentasecurity.strategyboard.entity.Post;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 public class PostDto {
     private Long id;
@@ -10,6 +18,14 @@ public class PostDto {
     private String author;
     private LocalDateTime createdAt;
 
+    // 엔티티 버전 (서버 내부 캐시 키 용도, JSON 응답에는 포함하지 않음)
+    @JsonIgnore
+    private long version;
+
+    // 저장된 JSON에서 만든 게시글의 원본 (응답에 그대로 출력, JSON에 들어가는 필드를 바꾸면 버림)
+    @JsonIgnore
+    private volatile EncodedJson encoded;
+
     // 기본 생성자
     public PostDto() {
     }
@@ -21,6 +37,28 @@ public class PostDto {
         this.content = post.getContent();
         this.author = post.getAuthor();
         this.createdAt = post.getCreatedAt();
+        this.version = post.getVersion();
+    }
+
+    /**
+     * 저장된 JSON 바이트로 게시글을 만듦 (보관 계층 조회 결과)
+     * ID와 버전 외의 필드는 처음 읽을 때 한 번만 파싱하고, 필드를 바꾸기 전까지는 encodedJson()으로 원본을 그대로 출력할 수 있음
+     */
+    public static PostDto fromJson(long id, long version, ByteBuffer json, ObjectReader reader) {
+        PostDto post = new PostDto();
+        post.id = id;
+        post.version = version;
+        post.encoded = new EncodedJson(json, reader);
+        return post;
+    }
+
+    /**
+     * 이 게시글의 JSON 직렬화 결과로 그대로 쓸 수 있는 원본 바이트
+     * (저장된 JSON에서 만들지 않았거나 JSON에 들어가는 필드를 바꾼 경우 empty, 호출마다 독립된 위치를 가진 뷰)
+     */
+    public Optional<ByteBuffer> encodedJson() {
+        EncodedJson source = encoded;
+        return source == null ? Optional.empty() : Optional.of(source.json.duplicate());
     }
 
     // Getters and Setters
@@ -29,38 +67,99 @@ public class PostDto {
     }
 
     public void setId(Long id) {
+        detach();
         this.id = id;
     }
 
     public String getTitle() {
+        decode();
         return title;
     }
 
     public void setTitle(String title) {
+        detach();
         this.title = title;
     }
 
     public String getContent() {
+        decode();
         return content;
     }
 
     public void setContent(String content) {
+        detach();
         this.content = content;
     }
 
     public String getAuthor() {
+        decode();
         return author;
     }
 
     public void setAuthor(String author) {
+        detach();
         this.author = author;
     }
 
     public LocalDateTime getCreatedAt() {
+        decode();
         return createdAt;
     }
 
     public void setCreatedAt(LocalDateTime createdAt) {
+        detach();
         this.createdAt = createdAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * 저장된 JSON에서 만든 게시글이면 나머지 필드를 처음 한 번만 채움 (동시에 파싱되어도 결과가 같으므로 잠그지 않음)
+     */
+    private void decode() {
+        EncodedJson source = encoded;
+        if (source == null || source.decoded) {
+            return;
+        }
+        PostDto parsed;
+        try {
+            parsed = source.reader.readValue(new ByteBufferBackedInputStream(source.json.duplicate()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장된 게시글 JSON을 읽을 수 없습니다. ID: " + id, e);
+        }
+        title = parsed.title;
+        content = parsed.content;
+        author = parsed.author;
+        createdAt = parsed.createdAt;
+        source.decoded = true;
+    }
+
+    /**
+     * 필드를 바꾸기 전에 원본 JSON의 값을 채우고 원본을 버림 (이후 응답은 바뀐 필드로 직렬화)
+     */
+    private void detach() {
+        decode();
+        encoded = null;
+    }
+
+    /**
+     * 저장된 JSON 원본과 파싱 여부
+     */
+    private static final class EncodedJson {
+
+        private final ByteBuffer json;
+        private final ObjectReader reader;
+        private volatile boolean decoded;
+
+        EncodedJson(ByteBuffer json, ObjectReader reader) {
+            this.json = json;
+            this.reader = reader;
+        }
+    }
 }
@@ -15,9 +15,24 @@ public class PostListRequest {
     // 무한스크롤용 마지막 ID (커서)
     private Long lastId;
 
+    // 커서 토큰 (응답의 nextToken/prevToken, 정렬 기준을 포함하므로 sort보다 우선)
+    private String cursor;
+
+    // 정렬 기준 ("id,desc", "createdAt,asc", "author,asc" 등, 커서 토큰을 지원하는 전략용)
+    private String sort;
+
+    // 검색어 (search 전략용)
+    private String keyword;
+
+    // 작성자 필터 (pagination, infinite 전략용, 작성자 게시글만 최신순으로 조회)
+    private String author;
+
     // 로딩 전략 타입
     private String strategy = "pagination"; // 기본값: pagination
 
+    // 응답 형태 ("full": 본문 포함, "summary": 제목/작성자/작성일/미리보기만)
+    private String view = "full";
+
     // 기본 생성자
     public PostListRequest() {
     }
@@ -54,6 +69,42 @@ public class PostListRequest {
         this.lastId = lastId;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public boolean hasAuthor() {
+        return author != null && !author.isBlank();
+    }
+
     public String getStrategy() {
         return strategy;
     }
@@ -61,4 +112,16 @@ public class PostListRequest {
     public void setStrategy(String strategy) {
         this.strategy = strategy;
     }
+
+    public String getView() {
+        return view;
+    }
+
+    public void setView(String view) {
+        this.view = view;
+    }
+
+    public boolean isSummaryView() {
+        return "summary".equals(view);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.pentasecurity.strategyboard.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class PostMultiGetRequest {
+
+    // 한 번에 조회할 수 있는 최대 게시글 수
+    public static final int MAX_IDS = 1000;
+
+    @NotEmpty(message = "조회할 게시글 ID가 없습니다")
+    @Size(max = MAX_IDS, message = "한 번에 1000개까지 조회할 수 있습니다")
+    private List<@NotNull Long> ids;
+
+    // 기본 생성자
+    public PostMultiGetRequest() {
+    }
+
+    // 생성자
+    public PostMultiGetRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
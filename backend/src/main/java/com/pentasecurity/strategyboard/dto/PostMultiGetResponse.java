@@ -0,0 +1,35 @@
+package com.pentasecurity.strategyboard.dto;
+
+import java.util.List;
+
+public class PostMultiGetResponse {
+    private List<PostDto> posts; // 요청한 ID 순서 (중복 ID는 한 번만)
+    private List<Long> missingIds; // 존재하지 않는 게시글 ID
+
+    // 기본 생성자
+    public PostMultiGetResponse() {
+    }
+
+    // 생성자
+    public PostMultiGetResponse(List<PostDto> posts, List<Long> missingIds) {
+        this.posts = posts;
+        this.missingIds = missingIds;
+    }
+
+    // Getters and Setters
+    public List<PostDto> getPosts() {
+        return posts;
+    }
+
+    public void setPosts(List<PostDto> posts) {
+        this.posts = posts;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
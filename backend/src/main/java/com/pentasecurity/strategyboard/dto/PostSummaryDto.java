@@ -0,0 +1,91 @@
+package com.pentasecurity.strategyboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 게시글 요약 DTO
+ * 본문 전체 대신 서버에서 자른 미리보기(excerpt)만 포함
+ */
+public class PostSummaryDto {
+
+    // 미리보기 길이 (프론트엔드 카드의 100자 미리보기와 동일)
+    public static final int EXCERPT_LENGTH = 100;
+
+    // 목록 쿼리가 DB에서 잘라오는 본문 길이 (한 글자 더 가져와 잘림 여부를 판단)
+    public static final int CONTENT_HEAD_LENGTH = EXCERPT_LENGTH + 1;
+
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDateTime createdAt;
+    private String excerpt;
+
+    // 기본 생성자
+    public PostSummaryDto() {
+    }
+
+    /**
+     * JPQL 생성자 표현식용 생성자
+     * contentHead는 DB에서 CONTENT_HEAD_LENGTH자까지만 잘라온 본문 앞부분 (잘림 여부 판단용)
+     */
+    public PostSummaryDto(Long id, String title, String author, LocalDateTime createdAt, String contentHead) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.excerpt = excerpt(contentHead);
+    }
+
+    // 전체 DTO에서 요약 DTO로 변환하는 생성자
+    public PostSummaryDto(PostDto post) {
+        this(post.getId(), post.getTitle(), post.getAuthor(), post.getCreatedAt(), post.getContent());
+    }
+
+    private static String excerpt(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, EXCERPT_LENGTH) + "...";
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+}
@@ -9,12 +9,23 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "posts")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "posts", indexes = {
+        // 키셋 페이징의 (createdAt, id) 정렬/탐색용 복합 인덱스
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+        // 작성자순 정렬/커서 탐색용 복합 인덱스
+        @Index(name = "idx_posts_author_id", columnList = "author, id")
+})
+@EntityListeners({ AuditingEntityListener.class, PostEntityListener.class })
 public class Post {
 
+    // 시퀀스 한 번 호출로 미리 할당하는 ID 개수
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 시퀀스 기반 ID (IDENTITY는 JDBC 배치 INSERT를 막으므로 사용하지 않음)
+    // allocationSize만큼 ID를 미리 할당(pooled)하며, 한 인스턴스 안에서는 단조 증가하여 무한스크롤 커서(id < lastId)가 유지됨
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = Post.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "제목은 필수입니다")
@@ -36,6 +47,11 @@ public class Post {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 수정될 때마다 증가하는 버전 (낙관적 잠금, 직렬화 결과 캐시의 키로도 사용, API 응답에는 노출하지 않음)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // 기본 생성자 (JPA 요구사항)
     protected Post() {
     }
@@ -79,4 +95,8 @@ public class Post {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.pentasecurity.strategyboard.entity;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post 엔티티 생명주기 리스너
+ * 영속화/수정/삭제 시점에 PostChangedEvent를 발행
+ * (구독자는 @TransactionalEventListener로 커밋 이후에만 반영)
+ */
+@Component
+public class PostEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(Post post) {
+        publish(PostChangedEvent.Type.CREATED, post);
+    }
+
+    @PostUpdate
+    public void onUpdate(Post post) {
+        publish(PostChangedEvent.Type.UPDATED, post);
+    }
+
+    @PostRemove
+    public void onRemove(Post post) {
+        publish(PostChangedEvent.Type.DELETED, post);
+    }
+
+    private void publish(PostChangedEvent.Type type, Post post) {
+        eventPublisher.publishEvent(new PostChangedEvent(type, new PostDto(post)));
+    }
+}
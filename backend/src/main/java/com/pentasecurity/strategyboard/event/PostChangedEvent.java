@@ -0,0 +1,30 @@
+package com.pentasecurity.strategyboard.event;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트
+ * 엔티티 리스너가 발행하며, 카운터·캐시 등 파생 데이터를 갱신하는 구독자들이 사용
+ */
+public class PostChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final PostDto post;
+
+    public PostChangedEvent(Type type, PostDto post) {
+        this.type = type;
+        this.post = post;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public PostDto getPost() {
+        return post;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pentasecurity.strategyboard.event;
+
+/**
+ * ID가 upToId 이하인 게시글이 모두 보관 계층으로 옮겨져 DB에서 삭제되었음을 알리는 이벤트
+ * 보관 구간은 항상 ID 앞부분 전체이므로, 구독자는 DB를 다시 읽지 않고 upToId 이하 항목만 버리면 됨
+ */
+public class PostsArchivedEvent {
+
+    private final long upToId;
+    private final long removedRows;
+
+    public PostsArchivedEvent(long upToId, long removedRows) {
+        this.upToId = upToId;
+        this.removedRows = removedRows;
+    }
+
+    public long getUpToId() {
+        return upToId;
+    }
+
+    /**
+     * 이번에 DB에서 삭제된 행 수
+     */
+    public long getRemovedRows() {
+        return removedRows;
+    }
+}
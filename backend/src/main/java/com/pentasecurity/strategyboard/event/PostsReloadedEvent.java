@@ -0,0 +1,18 @@
+package com.pentasecurity.strategyboard.event;
+
+/**
+ * JPA를 거치지 않고 게시글이 대량으로 적재/삭제되었음을 알리는 이벤트
+ * 건별 PostChangedEvent가 발행되지 않으므로 구독자는 DB에서 상태를 다시 읽어야 함
+ */
+public class PostsReloadedEvent {
+
+    private final long affectedRows;
+
+    public PostsReloadedEvent(long affectedRows) {
+        this.affectedRows = affectedRows;
+    }
+
+    public long getAffectedRows() {
+        return affectedRows;
+    }
+}
@@ -0,0 +1,15 @@
+package com.pentasecurity.strategyboard.exception;
+
+/**
+ * 커서 토큰을 해석할 수 없거나 정렬 기준이 잘못되었을 때 발생하는 예외
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.pentasecurity.strategyboard.exception;
+
+/**
+ * 전략은 올바르지만 요청 파라미터(검색어 누락, 지원하지 않는 필터/정렬 조합 등)가 잘못되었을 때 발생하는 예외
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package com.pentasecurity.strategyboard.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 스레드별 SQL 실행 횟수 카운터
+ * Hibernate가 SQL을 준비할 때마다 호출되는 StatementInspector로 등록되어,
+ * 요청 처리 구간 전후의 값 차이로 해당 구간에서 실행된 SQL 문 수를 구함
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        // SQL은 변경하지 않음
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 SQL 문 수
+     *
+     * @return 누적 실행 횟수 (구간 측정 시 전후 값의 차이를 사용)
+     */
+    public long current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,261 @@
+package com.pentasecurity.strategyboard.prefetch;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 무한스크롤 다음 페이지 선조회기
+ * 페이지를 응답한 직후 nextCursor 다음 페이지를 백그라운드에서 미리 조회해 짧은 TTL 캐시에 넣어 두고,
+ * 사용자가 그 커서로 스크롤하면 DB 조회 없이 응답
+ *
+ * 선조회 작업은 크기가 고정된 실행기 큐에 넣으며, 큐가 가득 차면 버림 (요청 처리 지연으로 번지지 않음).
+ * 부하가 높을 때는 board.prefetch.enabled 또는 actuator prefetch 엔드포인트로 끌 수 있음.
+ * 게시글이 수정/삭제되면 그 게시글을 담은 페이지만 버리고(새 게시글은 기존 커서 아래 페이지에 들어가지 않으므로 무시),
+ * 무효화와 겹친 선조회 결과는 캐시에 남기지 않음
+ */
+@Component
+public class NextPagePrefetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NextPagePrefetcher.class);
+
+    private final Cache<PageKey, Entry> pages;
+    private final ThreadPoolExecutor executor;
+    private final AtomicBoolean enabled;
+
+    // 무효화마다 증가, 무효화 이전에 시작된 선조회 결과를 버리기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter loaded;
+    private final Counter wasted;
+    private final Counter dropped;
+
+    public NextPagePrefetcher(MeterRegistry meterRegistry,
+                              @Value("${board.prefetch.enabled:true}") boolean enabled,
+                              @Value("${board.prefetch.ttl:PT30S}") Duration ttl,
+                              @Value("${board.prefetch.max-pages:2000}") long maxPages,
+                              @Value("${board.prefetch.threads:2}") int threads,
+                              @Value("${board.prefetch.queue-capacity:100}") int queueCapacity) {
+        this.enabled = new AtomicBoolean(enabled);
+
+        this.hits = counter(meterRegistry, "board.prefetch.requests", "result", "hit", "선조회 캐시로 응답한 요청 수");
+        this.misses = counter(meterRegistry, "board.prefetch.requests", "result", "miss", "선조회 캐시에 없던 요청 수");
+        this.loaded = Counter.builder("board.prefetch.loaded")
+                .description("선조회한 페이지 수")
+                .register(meterRegistry);
+        this.wasted = Counter.builder("board.prefetch.wasted")
+                .description("한 번도 사용되지 않고 만료/제거된 선조회 페이지 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("board.prefetch.dropped")
+                .description("실행기 큐가 가득 차 버린 선조회 작업 수")
+                .register(meterRegistry);
+
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxPages)
+                .removalListener((PageKey key, Entry entry, RemovalCause cause) -> {
+                    // 만료/크기 초과뿐 아니라 무효화로 버려진 경우도 한 번도 쓰이지 않았다면 낭비
+                    if (entry != null && !entry.used.get()) {
+                        wasted.increment();
+                    }
+                })
+                .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "next-page-prefetch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> dropped.increment());
+
+        Gauge.builder("board.prefetch.queue.size", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 선조회 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("board.prefetch.cached.pages", pages, Cache::estimatedSize)
+                .description("보관 중인 선조회 페이지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 선조회된 페이지 조회 (꺼내도 TTL 동안은 같은 커서의 다른 요청이 다시 쓸 수 있음)
+     *
+     * @param author 작성자 필터 (없으면 null)
+     */
+    public Optional<List<PostDto>> take(String author, Long lastId, int size) {
+        if (lastId == null) {
+            return Optional.empty();
+        }
+        Entry entry = pages.getIfPresent(new PageKey(author, lastId, size));
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        entry.used.set(true);
+        hits.increment();
+        return Optional.of(entry.posts);
+    }
+
+    /**
+     * nextCursor 다음 페이지를 백그라운드에서 조회해 보관 (꺼져 있거나 이미 보관 중이면 무시)
+     *
+     * @param author     작성자 필터 (없으면 null)
+     * @param nextCursor 방금 응답한 페이지의 다음 커서 (null이면 마지막 페이지이므로 무시)
+     * @param loader     다음 페이지 조회 (실행기 스레드에서 호출)
+     */
+    public void prefetch(String author, Long nextCursor, int size, Supplier<List<PostDto>> loader) {
+        if (!enabled.get() || nextCursor == null) {
+            return;
+        }
+        PageKey key = new PageKey(author, nextCursor, size);
+        if (pages.getIfPresent(key) != null) {
+            return;
+        }
+
+        long startGeneration = generation.get();
+        executor.execute(() -> {
+            try {
+                Entry entry = new Entry(List.copyOf(loader.get()));
+                if (generation.get() != startGeneration) {
+                    return;
+                }
+                pages.put(key, entry);
+                loaded.increment();
+                // 확인과 넣기 사이에 무효화가 끼어들었다면 그 무효화가 이 항목을 못 봤을 수 있으므로 직접 제거
+                if (generation.get() != startGeneration) {
+                    pages.asMap().remove(key, entry);
+                }
+            } catch (RuntimeException e) {
+                log.debug("다음 페이지 선조회 실패: {}", key, e);
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled.get();
+    }
+
+    /**
+     * 선조회 켜기/끄기 (끄면 보관 중인 페이지도 비움)
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled.set(enabled);
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    public long cachedPages() {
+        return pages.estimatedSize();
+    }
+
+    public int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 커밋된 게시글 수정/삭제를 반영 (그 게시글을 담은 페이지만 버림)
+     * 새 게시글은 가장 큰 ID를 받으므로 기존 커서(lastId) 아래의 어느 페이지에도 들어가지 않아 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.CREATED) {
+            return;
+        }
+        long id = event.getPost().getId();
+        generation.incrementAndGet();
+        pages.asMap().values().removeIf(entry -> entry.covers(id));
+    }
+
+    @EventListener(PostsReloadedEvent.class)
+    public void clear() {
+        generation.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    /**
+     * 보관 계층으로 옮겨진 게시글이 들어있을 수 있는 페이지만 버림
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        generation.incrementAndGet();
+        pages.asMap().values().removeIf(entry -> entry.reachesDownTo(event.getUpToId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String tagKey, String tagValue,
+                                   String description) {
+        return Counter.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .register(registry);
+    }
+
+    /**
+     * 선조회 페이지 키 (작성자 필터, 기준 커서, 페이지 크기)
+     */
+    private record PageKey(String author, long lastId, int size) {
+    }
+
+    /**
+     * 선조회 페이지와 사용 여부 (낭비 지표용)
+     * 페이지는 ID 내림차순 연속 구간이므로 첫/마지막 ID 범위로 게시글 포함 여부를 판단
+     */
+    private static final class Entry {
+
+        private final List<PostDto> posts;
+        private final long minId;
+        private final long maxId;
+        private final AtomicBoolean used = new AtomicBoolean();
+
+        Entry(List<PostDto> posts) {
+            this.posts = posts;
+            this.maxId = posts.isEmpty() ? Long.MIN_VALUE : posts.get(0).getId();
+            this.minId = posts.isEmpty() ? Long.MAX_VALUE : posts.get(posts.size() - 1).getId();
+        }
+
+        boolean covers(long id) {
+            return id >= minId && id <= maxId;
+        }
+
+        /**
+         * id 이하 게시글이 들어있는지 여부 (빈 페이지는 범위를 알 수 없으므로 true)
+         */
+        boolean reachesDownTo(long id) {
+            return posts.isEmpty() || minId <= id;
+        }
+    }
+}
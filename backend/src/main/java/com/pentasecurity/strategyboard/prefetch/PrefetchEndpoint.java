@@ -0,0 +1,39 @@
+package com.pentasecurity.strategyboard.prefetch;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 다음 페이지 선조회 운영 엔드포인트
+ * GET /actuator/prefetch 로 상태 조회, POST /actuator/prefetch {"enabled": false} 로 부하가 높을 때 끄기
+ */
+@Component
+@Endpoint(id = "prefetch")
+public class PrefetchEndpoint {
+
+    private final NextPagePrefetcher prefetcher;
+
+    public PrefetchEndpoint(NextPagePrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", prefetcher.isEnabled());
+        status.put("cachedPages", prefetcher.cachedPages());
+        status.put("queuedTasks", prefetcher.queuedTasks());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> setEnabled(boolean enabled) {
+        prefetcher.setEnabled(enabled);
+        return status();
+    }
+}
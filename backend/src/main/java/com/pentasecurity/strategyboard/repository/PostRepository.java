@@ -1,14 +1,24 @@
 package com.pentasecurity.strategyboard.repository;
 
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
 import com.pentasecurity.strategyboard.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -20,6 +30,136 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.id < :lastId ORDER BY p.id DESC")
     List<Post> findByIdLessThanOrderByIdDesc(@Param("lastId") Long lastId, Pageable pageable);
 
-    // 첫 페이지 조회 (무한스크롤용)
-    List<Post> findTop10ByOrderByIdDesc();
+    // 첫 페이지 조회 (무한스크롤용, 최신 게시글 버퍼 적재에도 사용)
+    List<Post> findAllByOrderByIdDesc(Pageable pageable);
+
+    // 키셋 페이징 첫 페이지 (COUNT 쿼리 없이 목록만 조회)
+    List<Post> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    // 키셋 페이징: (createdAt, id) 복합 키보다 이전 게시글을 인덱스 범위로 탐색
+    @Query("SELECT p FROM Post p WHERE p.createdAt <= :createdAt " +
+            "AND (p.createdAt < :createdAt OR p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByCreatedAtAndIdBefore(@Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 키셋 커서 게시글의 작성일만 조회 (본문을 읽지 않음)
+    @Query("SELECT p.createdAt FROM Post p WHERE p.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
+    // ===== 커서 토큰 탐색 (정렬 키 + ID 보조 키, 인덱스 범위 탐색이 가능한 형태로 작성) =====
+
+    List<Post> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.id > :id ORDER BY p.id ASC")
+    List<Post> findByIdGreaterThanOrderByIdAsc(@Param("id") Long id, Pageable pageable);
+
+    List<Post> findAllByOrderByCreatedAtAscIdAsc(Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.createdAt >= :createdAt " +
+            "AND (p.createdAt > :createdAt OR p.id > :id) " +
+            "ORDER BY p.createdAt ASC, p.id ASC")
+    List<Post> findByCreatedAtAndIdAfter(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    List<Post> findAllByOrderByAuthorAscIdAsc(Pageable pageable);
+
+    List<Post> findAllByOrderByAuthorDescIdDesc(Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.author >= :author " +
+            "AND (p.author > :author OR p.id > :id) " +
+            "ORDER BY p.author ASC, p.id ASC")
+    List<Post> findByAuthorAndIdAfter(@Param("author") String author,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.author <= :author " +
+            "AND (p.author < :author OR p.id < :id) " +
+            "ORDER BY p.author DESC, p.id DESC")
+    List<Post> findByAuthorAndIdBefore(@Param("author") String author,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    // ===== 작성자별 피드 ((author, id) 인덱스에서 작성자 구간만 최신순으로 탐색) =====
+
+    // 작성자 조건이 등치이므로 ORDER BY에 author를 포함해도 결과는 ID 내림차순과 같으며, 인덱스 순서 그대로 읽힘
+    @Query("SELECT p FROM Post p WHERE p.author = :author ORDER BY p.author DESC, p.id DESC")
+    List<Post> findByAuthorOrderByIdDesc(@Param("author") String author, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.author = :author AND p.id < :lastId " +
+            "ORDER BY p.author DESC, p.id DESC")
+    List<Post> findByAuthorAndIdLessThanOrderByIdDesc(@Param("author") String author,
+                                                      @Param("lastId") Long lastId,
+                                                      Pageable pageable);
+
+    long countByAuthor(String author);
+
+    // 검색 색인 적재 전 대체 검색: ID 범위를 최신순으로 읽으며 제목/본문 부분 문자열 비교 (keyword는 LIKE 이스케이프 필요)
+    @Query("SELECT p FROM Post p WHERE p.id < :lastId " +
+            "AND (LOWER(p.title) LIKE CONCAT('%', :keyword, '%') ESCAPE '\\' " +
+            "OR LOWER(p.content) LIKE CONCAT('%', :keyword, '%') ESCAPE '\\') " +
+            "ORDER BY p.id DESC")
+    List<Post> findByKeywordAndIdLessThan(@Param("keyword") String keyword,
+                                          @Param("lastId") Long lastId,
+                                          Pageable pageable);
+
+    // 지연 조인(deferred join)용 ID 페이지: 본문 없이 PK 인덱스만 읽어 OFFSET 구간을 건너뜀
+    @Query("SELECT p.id FROM Post p ORDER BY p.id DESC")
+    List<Long> findIdsByOrderByIdDesc(Pageable pageable);
+
+    // ===== 목록용 요약 프로젝션 (본문은 미리보기 길이 + 1자까지만 DB에서 잘라옴) =====
+
+    String SUMMARY_SELECT = "SELECT new com.pentasecurity.strategyboard.dto.PostSummaryDto(" +
+            "p.id, p.title, p.author, p.createdAt, SUBSTRING(p.content, 1, " +
+            PostSummaryDto.CONTENT_HEAD_LENGTH + ")) ";
+
+    @Query(SUMMARY_SELECT +
+            "FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "FROM Post p WHERE p.createdAt <= :createdAt " +
+            "AND (p.createdAt < :createdAt OR p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesByCreatedAtAndIdBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "FROM Post p ORDER BY p.id DESC")
+    List<PostSummaryDto> findSummariesByOrderByIdDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "FROM Post p WHERE p.id < :lastId ORDER BY p.id DESC")
+    List<PostSummaryDto> findSummariesByIdLessThanOrderByIdDesc(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "FROM Post p WHERE p.id IN :ids")
+    List<PostSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ===== 보관 계층 이동 =====
+
+    // 작성일이 기준 시각 이후인 게시글 중 가장 작은 ID (보관은 이 ID 직전까지의 구간만 대상)
+    @Query("SELECT MIN(p.id) FROM Post p WHERE p.createdAt >= :cutoff")
+    Optional<Long> findMinIdCreatedAtOrAfter(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Optional<Long> findMaxId();
+
+    // 보관 계층으로 옮긴 구간 일괄 삭제 (영속성 컨텍스트/엔티티 리스너를 거치지 않음)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id <= :upToId")
+    int deleteAllUpToId(@Param("upToId") Long upToId);
+
+    // 전체 내보내기용 커서 스트림 (JDBC fetch size 단위로 읽으며, 트랜잭션 안에서 소비해야 함)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Post p ORDER BY p.id")
+    Stream<Post> streamAllByOrderByIdAsc();
 }
@@ -0,0 +1,110 @@
+package com.pentasecurity.strategyboard.repository;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC 기반 게시글 조회 저장소 (reactive 프로파일)
+ * JPA 저장소와 같은 posts 테이블을 읽기 전용으로 조회하며, 커넥션을 기다리거나 결과를 읽는 동안 스레드를 점유하지 않음
+ *
+ * 커넥션 풀은 이 저장소가 직접 소유함.
+ * ConnectionFactory를 빈으로 등록하면 Spring Boot가 JDBC DataSource 자동 설정을 건너뛰어 쓰기/캐시 적재에 쓰는 JPA가 동작하지 않음
+ */
+@Repository
+@Profile("reactive")
+public class ReactivePostRepository {
+
+    private static final String SELECT_POSTS = "SELECT id, title, content, author, created_at, version FROM posts ";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactivePostRepository(@Value("${board.reactive.url:r2dbc:h2:mem:///testdb}") String url,
+                                  @Value("${spring.datasource.username:sa}") String username,
+                                  @Value("${spring.datasource.password:}") String password,
+                                  @Value("${board.reactive.pool.max-size:10}") int maxSize,
+                                  @Value("${board.reactive.pool.max-acquire-time:PT10S}") Duration maxAcquireTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(0)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+        this.client = DatabaseClient.create(pool);
+    }
+
+    // 페이징 (JPA findAllByOrderByCreatedAtDescIdDesc와 같은 순서)
+    public Flux<PostDto> findPage(int page, int size) {
+        return client.sql(SELECT_POSTS + "ORDER BY created_at DESC, id DESC LIMIT :size OFFSET :offset")
+                .bind("size", size)
+                .bind("offset", (long) page * size)
+                .map(ReactivePostRepository::toDto)
+                .all();
+    }
+
+    // 무한스크롤 첫 페이지
+    public Flux<PostDto> findLatest(int size) {
+        return client.sql(SELECT_POSTS + "ORDER BY id DESC LIMIT :size")
+                .bind("size", size)
+                .map(ReactivePostRepository::toDto)
+                .all();
+    }
+
+    // 무한스크롤 커서 조회
+    public Flux<PostDto> findBefore(long lastId, int size) {
+        return client.sql(SELECT_POSTS + "WHERE id < :lastId ORDER BY id DESC LIMIT :size")
+                .bind("lastId", lastId)
+                .bind("size", size)
+                .map(ReactivePostRepository::toDto)
+                .all();
+    }
+
+    // 내보내기용 ID 오름차순 묶음 조회
+    public Flux<PostDto> findAfter(long afterId, int size) {
+        return client.sql(SELECT_POSTS + "WHERE id > :afterId ORDER BY id ASC LIMIT :size")
+                .bind("afterId", afterId)
+                .bind("size", size)
+                .map(ReactivePostRepository::toDto)
+                .all();
+    }
+
+    public Mono<PostDto> findById(long id) {
+        return client.sql(SELECT_POSTS + "WHERE id = :id")
+                .bind("id", id)
+                .map(ReactivePostRepository::toDto)
+                .one();
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.dispose();
+    }
+
+    private static PostDto toDto(Readable row) {
+        PostDto post = new PostDto();
+        post.setId(row.get("id", Long.class));
+        post.setTitle(row.get("title", String.class));
+        post.setContent(row.get("content", String.class));
+        post.setAuthor(row.get("author", String.class));
+        post.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        post.setVersion(row.get("version", Long.class));
+        return post;
+    }
+}
@@ -0,0 +1,139 @@
+package com.pentasecurity.strategyboard.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인/질의용 토크나이저
+ *
+ * <ul>
+ *     <li>한글: 형태소 분석 없이 음절 단위 n-gram 사용 (음절 1-gram + 2-gram)
+ *         - 조사/어미가 붙은 어절도 부분 문자열로 찾을 수 있음</li>
+ *     <li>라틴 문자/숫자: 소문자로 정규화한 단어 단위</li>
+ *     <li>그 외 문자(공백, 문장부호 등): 구분자</li>
+ * </ul>
+ *
+ * 검색 결과 대조(contains)도 같은 규칙을 따름: 한글 구간은 부분 문자열, 라틴 문자/숫자는 단어 전체가 일치해야 함
+ */
+public final class PostTokenizer {
+
+    private PostTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (한글 음절 1-gram과 2-gram, 라틴 단어)
+     */
+    public static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        tokenize(text, tokens, true);
+        return tokens;
+    }
+
+    /**
+     * 질의용 토큰
+     * 2음절 이상 한글은 2-gram만 사용하고, 1음절 한글만 1-gram으로 찾음
+     */
+    public static Set<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        tokenize(text, tokens, false);
+        return tokens;
+    }
+
+    /**
+     * 질의어 단위 (한글 연속 구간, 소문자로 정규화한 라틴 단어, 중복 제외)
+     * 문장부호만으로 된 질의는 빈 목록
+     */
+    public static List<String> queryTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachRun(text, (start, end, hangul) -> terms.add(hangul
+                ? text.substring(start, end)
+                : text.substring(start, end).toLowerCase(Locale.ROOT)));
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 텍스트가 질의어(queryTerms 결과)를 색인과 같은 규칙으로 포함하는지 여부
+     * 한글 구간은 부분 문자열로, 라틴 단어는 앞뒤가 다른 라틴 문자/숫자로 이어지지 않는 단어 전체로 찾음
+     */
+    public static boolean contains(String text, String term) {
+        if (isHangul(term.charAt(0))) {
+            return text.contains(term);
+        }
+        int length = term.length();
+        for (int i = 0; i + length <= text.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, length)
+                    && (i == 0 || !isWordChar(text.charAt(i - 1)))
+                    && (i + length == text.length() || !isWordChar(text.charAt(i + length)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void tokenize(String text, Set<String> tokens, boolean withUnigrams) {
+        forEachRun(text, (start, end, hangul) -> {
+            if (hangul) {
+                addHangulGrams(text, start, end, tokens, withUnigrams);
+            } else {
+                tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+            }
+        });
+    }
+
+    /**
+     * 한글 연속 구간과 라틴 문자/숫자 단어를 차례대로 전달 (그 외 문자는 건너뜀)
+     */
+    private static void forEachRun(String text, RunConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                consumer.accept(start, i, true);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && isWordChar(text.charAt(i))) {
+                    i++;
+                }
+                consumer.accept(start, i, false);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void addHangulGrams(String text, int start, int end, Set<String> tokens, boolean withUnigrams) {
+        if (withUnigrams || end - start == 1) {
+            for (int i = start; i < end; i++) {
+                tokens.add(String.valueOf(text.charAt(i)));
+            }
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        // 완성형 한글 음절 (가-힣)
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isWordChar(char c) {
+        return !isHangul(c) && Character.isLetterOrDigit(c);
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(int start, int end, boolean hangul);
+    }
+}
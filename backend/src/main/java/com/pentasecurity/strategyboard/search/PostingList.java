@@ -0,0 +1,286 @@
+package com.pentasecurity.strategyboard.search;
+
+import java.util.Arrays;
+
+/**
+ * 압축된 게시글 ID 포스팅 리스트
+ * ID를 오름차순으로 BLOCK_SIZE개씩 블록으로 묶고, 블록 안은 이전 ID와의 차이(delta)를 varint로 저장.
+ * 블록 첫 ID는 별도 배열에 두어 블록 단위로 건너뛰며 탐색하고, 필요한 블록만 풀어서 읽음.
+ * 최근 추가된 ID는 블록이 찰 때까지 정렬된 버퍼(pending)에 보관
+ *
+ * 스레드 안전하지 않으므로 SearchIndex의 읽기/쓰기 잠금 안에서만 사용
+ */
+final class PostingList {
+
+    static final int BLOCK_SIZE = 128;
+
+    // 블록별 첫(가장 작은) ID, 데이터 시작 위치, ID 개수
+    private long[] blockFirstIds = new long[4];
+    private int[] blockOffsets = new int[4];
+    private int[] blockSizes = new int[4];
+    private int blockCount;
+
+    // 블록 데이터 (첫 ID를 제외한 delta varint)
+    private byte[] data = new byte[64];
+    private int dataLength;
+    private int compressedSize;
+    private long maxCompressedId = -1;
+
+    // 아직 블록으로 압축하지 않은 ID (오름차순)
+    private long[] pending = new long[8];
+    private int pendingSize;
+
+    /**
+     * ID 추가 (이미 있으면 무시)
+     */
+    void add(long id) {
+        if (id <= maxCompressedId && containsCompressed(id)) {
+            return;
+        }
+        int index = Arrays.binarySearch(pending, 0, pendingSize, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (pendingSize == pending.length) {
+            pending = Arrays.copyOf(pending, pendingSize * 2);
+        }
+        System.arraycopy(pending, insertAt, pending, insertAt + 1, pendingSize - insertAt);
+        pending[insertAt] = id;
+        pendingSize++;
+
+        if (pendingSize == BLOCK_SIZE) {
+            flushPending();
+        }
+    }
+
+    /**
+     * id 이하 ID 모두 제거 (보관 계층으로 옮겨진 앞부분 구간)
+     * 경계보다 앞의 블록은 통째로 버리고, 경계에 걸친 블록 하나만 다시 압축
+     */
+    void removeUpTo(long id) {
+        int index = Arrays.binarySearch(pending, 0, pendingSize, id);
+        int dropPending = index >= 0 ? index + 1 : -index - 1;
+        if (dropPending > 0) {
+            System.arraycopy(pending, dropPending, pending, 0, pendingSize - dropPending);
+            pendingSize -= dropPending;
+        }
+
+        int boundary = blockFor(id);
+        if (boundary < 0) {
+            return;
+        }
+        long[] boundaryIds = new long[BLOCK_SIZE];
+        int boundaryCount = decodeBlock(boundary, boundaryIds);
+        int found = Arrays.binarySearch(boundaryIds, 0, boundaryCount, id);
+        int keepFrom = found >= 0 ? found + 1 : -found - 1;
+
+        // 경계 이후 블록은 압축된 그대로 옮김
+        int rest = boundary + 1;
+        int restOffset = rest < blockCount ? blockOffsets[rest] : dataLength;
+        long[] restFirstIds = Arrays.copyOfRange(blockFirstIds, rest, blockCount);
+        int[] restOffsets = Arrays.copyOfRange(blockOffsets, rest, blockCount);
+        int[] restSizes = Arrays.copyOfRange(blockSizes, rest, blockCount);
+        byte[] restData = Arrays.copyOfRange(data, restOffset, dataLength);
+        long lastId = maxCompressedId;
+
+        int capacity = Math.max(restFirstIds.length + 1, 4);
+        blockFirstIds = new long[capacity];
+        blockOffsets = new int[capacity];
+        blockSizes = new int[capacity];
+        data = new byte[Math.max(restData.length + 10 * BLOCK_SIZE, 64)];
+        blockCount = 0;
+        dataLength = 0;
+        compressedSize = 0;
+        maxCompressedId = -1;
+
+        if (keepFrom < boundaryCount) {
+            appendBlock(boundaryIds, keepFrom, boundaryCount - keepFrom);
+        }
+        int shift = dataLength - restOffset;
+        System.arraycopy(restData, 0, data, dataLength, restData.length);
+        dataLength += restData.length;
+        for (int i = 0; i < restFirstIds.length; i++) {
+            blockFirstIds[blockCount] = restFirstIds[i];
+            blockOffsets[blockCount] = restOffsets[i] + shift;
+            blockSizes[blockCount] = restSizes[i];
+            blockCount++;
+            compressedSize += restSizes[i];
+            maxCompressedId = lastId;
+        }
+    }
+
+    int size() {
+        return compressedSize + pendingSize;
+    }
+
+    /**
+     * 압축 데이터 크기 (byte, 블록 메타데이터 제외)
+     */
+    int compressedBytes() {
+        return dataLength;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void flushPending() {
+        if (pending[0] > maxCompressedId) {
+            // 새 게시글(가장 큰 ID)만 들어온 일반적인 경우: 블록 하나를 뒤에 덧붙임
+            appendBlock(pending, 0, pendingSize);
+        } else {
+            // 오래된 게시글이 수정되어 중간 ID가 들어온 경우: 전체를 다시 압축
+            long[] merged = new long[compressedSize + pendingSize];
+            int length = decodeAll(merged);
+            merged = mergeSorted(merged, length, pending, pendingSize);
+            blockCount = 0;
+            dataLength = 0;
+            compressedSize = 0;
+            maxCompressedId = -1;
+            for (int from = 0; from < merged.length; from += BLOCK_SIZE) {
+                appendBlock(merged, from, Math.min(BLOCK_SIZE, merged.length - from));
+            }
+        }
+        pendingSize = 0;
+    }
+
+    private void appendBlock(long[] ids, int from, int count) {
+        if (blockCount == blockFirstIds.length) {
+            int capacity = blockCount * 2;
+            blockFirstIds = Arrays.copyOf(blockFirstIds, capacity);
+            blockOffsets = Arrays.copyOf(blockOffsets, capacity);
+            blockSizes = Arrays.copyOf(blockSizes, capacity);
+        }
+        blockFirstIds[blockCount] = ids[from];
+        blockOffsets[blockCount] = dataLength;
+        blockSizes[blockCount] = count;
+        blockCount++;
+
+        for (int i = from + 1; i < from + count; i++) {
+            writeVarint(ids[i] - ids[i - 1]);
+        }
+        compressedSize += count;
+        maxCompressedId = ids[from + count - 1];
+    }
+
+    private boolean containsCompressed(long id) {
+        int block = blockFor(id);
+        if (block < 0) {
+            return false;
+        }
+        long[] ids = new long[BLOCK_SIZE];
+        int count = decodeBlock(block, ids);
+        return Arrays.binarySearch(ids, 0, count, id) >= 0;
+    }
+
+    /**
+     * 첫 ID가 id 이하인 마지막 블록 (없으면 -1)
+     */
+    private int blockFor(long id) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blockFirstIds[mid] <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private int decodeBlock(int block, long[] target) {
+        int position = blockOffsets[block];
+        long id = blockFirstIds[block];
+        target[0] = id;
+        for (int i = 1; i < blockSizes[block]; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            id += delta;
+            target[i] = id;
+        }
+        return blockSizes[block];
+    }
+
+    private int decodeAll(long[] target) {
+        long[] buffer = new long[BLOCK_SIZE];
+        int length = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int count = decodeBlock(block, buffer);
+            System.arraycopy(buffer, 0, target, length, count);
+            length += count;
+        }
+        return length;
+    }
+
+    private static long[] mergeSorted(long[] a, int aLength, long[] b, int bLength) {
+        long[] merged = new long[aLength + bLength];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < aLength && j < bLength) {
+            merged[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        while (i < aLength) {
+            merged[k++] = a[i++];
+        }
+        while (j < bLength) {
+            merged[k++] = b[j++];
+        }
+        return merged;
+    }
+
+    private void writeVarint(long value) {
+        if (data.length - dataLength < 10) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + 10));
+        }
+        while ((value & ~0x7FL) != 0) {
+            data[dataLength++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[dataLength++] = (byte) value;
+    }
+
+    /**
+     * 최신순(ID 내림차순) 탐색 커서
+     * 마지막으로 풀어 둔 블록을 재사용하므로 내림차순으로 연속 호출할 때 블록당 한 번만 디코딩
+     */
+    final class Cursor {
+
+        private final long[] buffer = new long[BLOCK_SIZE];
+        private int bufferedBlock = -1;
+        private int bufferedSize;
+
+        /**
+         * target 이하인 가장 큰 ID (없으면 -1)
+         */
+        long advance(long target) {
+            long fromPending = -1;
+            int index = Arrays.binarySearch(pending, 0, pendingSize, target);
+            int at = index >= 0 ? index : -index - 2;
+            if (at >= 0) {
+                fromPending = pending[at];
+            }
+
+            long fromBlocks = -1;
+            int block = blockFor(target);
+            if (block >= 0) {
+                if (block != bufferedBlock) {
+                    bufferedSize = decodeBlock(block, buffer);
+                    bufferedBlock = block;
+                }
+                int found = Arrays.binarySearch(buffer, 0, bufferedSize, target);
+                fromBlocks = buffer[found >= 0 ? found : -found - 2];
+            }
+            return Math.max(fromPending, fromBlocks);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.pentasecurity.strategyboard.search;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 역색인 (토큰 → 압축 포스팅 리스트)
+ *
+ * 기동 시(또는 대량 적재 후) 백그라운드에서 전체 게시글로 새 색인을 만든 뒤 교체하고,
+ * 이후 게시글 생성/수정 이벤트로 증분 반영하고, 보관 계층으로 옮겨진 앞부분 ID 구간은 포스팅 리스트에서 잘라냄.
+ * 색인은 후보 ID만 제공하며 삭제/수정으로 남은 이전 토큰은 검색 결과를 원본과 대조하는 단계에서 걸러짐
+ */
+@Component
+public class SearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    private static final int BUILD_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 색인 교체와 증분 반영 순서를 맞추기 위한 잠금
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    // 검색에 사용하는 색인 (첫 적재 전에는 null)
+    private volatile Index current;
+    // 적재 중인 색인 (적재 중 들어온 변경도 함께 반영)
+    private Index building;
+
+    public SearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 전체 게시글로 색인을 다시 만듦 (백그라운드, 완료 전까지는 기존 색인 또는 대체 검색 사용)
+     */
+    @EventListener({ ApplicationReadyEvent.class, PostsReloadedEvent.class })
+    public void rebuild() {
+        builder.execute(this::build);
+    }
+
+    /**
+     * 첫 색인 적재가 끝났는지 여부
+     */
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * 질의 토큰을 모두 포함하는 게시글 ID를 beforeId 미만에서 최신순으로 limit개까지 조회
+     *
+     * @return 색인이 준비되지 않았으면 empty
+     */
+    public Optional<List<Long>> search(Set<String> tokens, long beforeId, int limit) {
+        Index index = current;
+        if (index == null) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(tokens, beforeId, limit));
+    }
+
+    /**
+     * 커밋된 게시글 생성/수정을 색인에 반영 (삭제는 검색 결과 대조 단계에서 걸러지므로 반영하지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            return;
+        }
+        PostDto post = event.getPost();
+        Set<String> tokens = tokensOf(post.getTitle(), post.getContent());
+
+        swapLock.lock();
+        try {
+            if (current != null) {
+                current.add(post.getId(), tokens);
+            }
+            if (building != null) {
+                building.add(post.getId(), tokens);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * 보관 계층으로 옮겨진 게시글을 색인에서 제거 (DB를 다시 읽지 않음)
+     * 적재 중인 색인도 함께 잘라내며, 적재가 삭제 전에 읽어 둔 행은 이후 추가되지 않음
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        swapLock.lock();
+        try {
+            if (current != null) {
+                current.removeUpTo(event.getUpToId());
+            }
+            if (building != null) {
+                building.removeUpTo(event.getUpToId());
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        Index index = new Index();
+
+        swapLock.lock();
+        try {
+            building = index;
+        } finally {
+            swapLock.unlock();
+        }
+
+        try {
+            long[] rows = new long[1];
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement("SELECT id, title, content FROM posts");
+                statement.setFetchSize(BUILD_FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                index.add(resultSet.getLong(1), tokensOf(resultSet.getString(2), resultSet.getString(3)));
+                rows[0]++;
+            });
+
+            swapLock.lock();
+            try {
+                current = index;
+                building = null;
+            } finally {
+                swapLock.unlock();
+            }
+            log.info("검색 색인 적재 완료: 게시글 {}건, 토큰 {}개, 포스팅 {}KB, {}ms",
+                    rows[0], index.termCount(), index.compressedBytes() / 1024,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            swapLock.lock();
+            try {
+                building = null;
+            } finally {
+                swapLock.unlock();
+            }
+            // 종료 중 적재가 중단된 경우는 정상 흐름이므로 경고하지 않음
+            if (!builder.isShutdown()) {
+                log.warn("검색 색인 적재 실패", e);
+            }
+        }
+    }
+
+    private static Set<String> tokensOf(String title, String content) {
+        Set<String> tokens = PostTokenizer.indexTokens(title);
+        tokens.addAll(PostTokenizer.indexTokens(content));
+        return tokens;
+    }
+
+    /**
+     * 토큰별 포스팅 리스트 묶음 (읽기는 동시에, 쓰기는 단독으로 수행)
+     */
+    private static final class Index {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        // 이 ID 이하는 보관 계층으로 옮겨져 색인하지 않음
+        private long archivedUpTo;
+
+        void add(long id, Set<String> tokens) {
+            lock.writeLock().lock();
+            try {
+                if (id <= archivedUpTo) {
+                    return;
+                }
+                for (String token : tokens) {
+                    postings.computeIfAbsent(token, key -> new PostingList()).add(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * 가장 짧은 포스팅 리스트를 기준으로 나머지 리스트를 건너뛰며 교집합을 최신순으로 구함
+         */
+        List<Long> search(Set<String> tokens, long beforeId, int limit) {
+            List<Long> result = new ArrayList<>(limit);
+            lock.readLock().lock();
+            try {
+                List<PostingList> lists = new ArrayList<>(tokens.size());
+                for (String token : tokens) {
+                    PostingList list = postings.get(token);
+                    if (list == null) {
+                        return result;
+                    }
+                    lists.add(list);
+                }
+                if (lists.isEmpty()) {
+                    return result;
+                }
+                lists.sort(Comparator.comparingInt(PostingList::size));
+
+                PostingList.Cursor[] cursors = lists.stream()
+                        .map(PostingList::cursor)
+                        .toArray(PostingList.Cursor[]::new);
+
+                long candidate = cursors[0].advance(beforeId - 1);
+                while (candidate >= 0 && result.size() < limit) {
+                    long next = candidate;
+                    for (int i = 1; i < cursors.length && next == candidate; i++) {
+                        next = cursors[i].advance(candidate);
+                    }
+                    if (next < 0) {
+                        break;
+                    }
+                    if (next == candidate) {
+                        result.add(candidate);
+                        candidate = cursors[0].advance(candidate - 1);
+                    } else {
+                        // 다른 리스트에 없는 ID는 건너뛰고 그 리스트의 다음 후보부터 다시 맞춤
+                        candidate = cursors[0].advance(next);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void removeUpTo(long id) {
+            lock.writeLock().lock();
+            try {
+                if (id <= archivedUpTo) {
+                    return;
+                }
+                archivedUpTo = id;
+                postings.values().removeIf(list -> {
+                    list.removeUpTo(id);
+                    return list.size() == 0;
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int termCount() {
+            lock.readLock().lock();
+            try {
+                return postings.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long compressedBytes() {
+            lock.readLock().lock();
+            try {
+                return postings.values().stream().mapToLong(PostingList::compressedBytes).sum();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
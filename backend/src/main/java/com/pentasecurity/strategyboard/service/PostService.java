@@ -1,9 +1,16 @@
 package com.pentasecurity.strategyboard.service;
 
+import com.pentasecurity.strategyboard.dto.PostBatchCreateResponse;
+import com.pentasecurity.strategyboard.dto.PostCreateRequest;
 import com.pentasecurity.strategyboard.dto.PostDto;
 import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PostMultiGetResponse;
 import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -19,6 +26,14 @@ public interface PostService {
      */
     PageResponse<PostDto> getPosts(PostListRequest request);
 
+    /**
+     * 게시글 요약 목록 조회 (본문 대신 미리보기만 포함)
+     * 
+     * @param request 조회 요청 정보
+     * @return 게시글 요약 목록과 페이징 정보
+     */
+    PageResponse<PostSummaryDto> getPostSummaries(PostListRequest request);
+
     /**
      * 특정 게시글 조회
      * 
@@ -27,6 +42,30 @@ public interface PostService {
      */
     PostDto getPost(Long id);
 
+    /**
+     * 여러 게시글을 한 번에 조회
+     * 
+     * @param ids 게시글 ID 목록
+     * @return 요청 순서대로 정렬된 게시글과 존재하지 않는 ID 목록
+     */
+    PostMultiGetResponse getPostsByIds(List<Long> ids);
+
+    /**
+     * 전체 게시글을 ID 순으로 NDJSON(한 줄에 게시글 하나)으로 내보내기
+     * 
+     * @param out 출력 스트림
+     * @return 내보낸 게시글 수
+     */
+    long exportPosts(OutputStream out) throws IOException;
+
+    /**
+     * 게시글 일괄 등록 (JDBC 배치 INSERT)
+     * 
+     * @param requests 등록할 게시글 목록
+     * @return 등록 건수와 할당된 ID 범위
+     */
+    PostBatchCreateResponse createPosts(List<PostCreateRequest> requests);
+
     /**
      * 사용 가능한 로딩 전략 목록 조회
      * 
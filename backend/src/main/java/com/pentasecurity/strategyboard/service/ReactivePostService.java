@@ -0,0 +1,55 @@
+package com.pentasecurity.strategyboard.service;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * 논블로킹 게시글 조회 인터페이스 (reactive 프로파일)
+ */
+public interface ReactivePostService {
+
+    /**
+     * 게시글 목록 조회 (전략패턴 적용)
+     * 
+     * @param request 조회 요청 정보
+     * @return 게시글 목록과 페이징 정보
+     */
+    Mono<PageResponse<PostDto>> getPosts(PostListRequest request);
+
+    /**
+     * 게시글 요약 목록 조회 (본문 대신 미리보기만 포함)
+     * 
+     * @param request 조회 요청 정보
+     * @return 게시글 요약 목록과 페이징 정보
+     */
+    Mono<PageResponse<PostSummaryDto>> getPostSummaries(PostListRequest request);
+
+    /**
+     * 특정 게시글 조회
+     * 
+     * @param id 게시글 ID
+     * @return 게시글 정보 (없으면 PostNotFoundException)
+     */
+    Mono<PostDto> getPost(Long id);
+
+    /**
+     * 전체 게시글을 ID 순으로 스트리밍
+     * 구독자가 요청한 만큼만 묶음 단위로 조회하므로, 느린 클라이언트에게도 메모리에 쌓이는 게시글 수가 일정함
+     * 
+     * @return ID 오름차순 게시글 스트림
+     */
+    Flux<PostDto> exportPosts();
+
+    /**
+     * 사용 가능한 로딩 전략 목록 조회
+     * 
+     * @return 전략 목록
+     */
+    Set<String> getAvailableStrategies();
+}
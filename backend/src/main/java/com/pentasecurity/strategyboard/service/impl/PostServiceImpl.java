@@ -1,18 +1,38 @@
 package com.pentasecurity.strategyboard.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pentasecurity.strategyboard.archive.PostArchive;
+import com.pentasecurity.strategyboard.cache.PostDetailCache;
+import com.pentasecurity.strategyboard.dto.PostBatchCreateResponse;
+import com.pentasecurity.strategyboard.dto.PostCreateRequest;
 import com.pentasecurity.strategyboard.dto.PostDto;
 import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PostMultiGetResponse;
 import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
 import com.pentasecurity.strategyboard.entity.Post;
 import com.pentasecurity.strategyboard.exception.PostNotFoundException;
 import com.pentasecurity.strategyboard.repository.PostRepository;
 import com.pentasecurity.strategyboard.service.PostService;
 import com.pentasecurity.strategyboard.strategy.LoadStrategy;
 import com.pentasecurity.strategyboard.strategy.LoadStrategyFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * 게시글 비즈니스 로직 구현체
@@ -22,15 +42,39 @@ import java.util.Set;
 @Transactional(readOnly = true)
 public class PostServiceImpl implements PostService {
 
+    // 내보내기 중 출력 버퍼를 비우는 간격 (게시글 수)
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    // 여러 게시글 조회 시 IN 절 하나에 넣는 최대 ID 수
+    private static final int MULTI_GET_CHUNK_SIZE = 500;
+
     private final LoadStrategyFactory strategyFactory;
     private final PostRepository postRepository;
+    private final PostDetailCache postDetailCache;
+    private final PostArchive postArchive;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int jdbcBatchSize;
 
-    public PostServiceImpl(LoadStrategyFactory strategyFactory, PostRepository postRepository) {
+    public PostServiceImpl(LoadStrategyFactory strategyFactory, PostRepository postRepository,
+                           PostDetailCache postDetailCache, PostArchive postArchive, EntityManager entityManager,
+                           ObjectMapper objectMapper,
+                           @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int jdbcBatchSize) {
         this.strategyFactory = strategyFactory;
         this.postRepository = postRepository;
+        this.postDetailCache = postDetailCache;
+        this.postArchive = postArchive;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.jdbcBatchSize = jdbcBatchSize;
     }
 
+    /**
+     * 전략이 캐시만으로 응답할 수 있도록 트랜잭션(커넥션)을 미리 열지 않음
+     * DB 조회가 필요한 경우 각 리포지토리 메서드의 읽기 전용 트랜잭션을 사용
+     */
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PageResponse<PostDto> getPosts(PostListRequest request) {
         // 전략 팩토리에서 적절한 로딩 전략 선택
         LoadStrategy strategy = strategyFactory.getStrategy(request.getStrategy());
@@ -40,11 +84,120 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PageResponse<PostSummaryDto> getPostSummaries(PostListRequest request) {
+        LoadStrategy strategy = strategyFactory.getStrategy(request.getStrategy());
+
+        // 선택된 전략으로 요약 목록 로딩
+        return strategy.loadSummaries(request);
+    }
+
+    /**
+     * 상세 캐시에 있으면 트랜잭션(커넥션) 없이 응답하고, 없을 때만 DB에서 조회
+     * 보관 구간의 ID는 DB에 없으므로 보관 계층에서 바로 조회
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PostDto getPost(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
+        Optional<PostDto> post = id <= postArchive.archivedUpTo() ? postArchive.find(id) : postDetailCache.find(id);
+        return post.orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
+    }
+
+    /**
+     * 상세 캐시에 있는 게시글은 그대로 쓰고, 나머지만 IN 조회로 묶어서 가져옴
+     * 존재하지 않는 ID는 예외 대신 missingIds로 알려줌
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PostMultiGetResponse getPostsByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, PostDto> found = postDetailCache.findAllPresent(distinctIds);
+
+        List<Long> uncached = distinctIds.stream().filter(id -> !found.containsKey(id)).toList();
+        for (int from = 0; from < uncached.size(); from += MULTI_GET_CHUNK_SIZE) {
+            List<Long> chunk = uncached.subList(from, Math.min(from + MULTI_GET_CHUNK_SIZE, uncached.size()));
+            for (Post post : postRepository.findAllById(chunk)) {
+                found.put(post.getId(), new PostDto(post));
+            }
+        }
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 요청 순서로 재정렬
+        List<PostDto> posts = new ArrayList<>(distinctIds.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            PostDto post = found.get(id);
+            if (post == null && id <= postArchive.archivedUpTo()) {
+                post = postArchive.find(id).orElse(null);
+            }
+            if (post != null) {
+                posts.add(post);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new PostMultiGetResponse(posts, missingIds);
+    }
+
+    /**
+     * DB 커서를 따라 한 건씩 쓰고 바로 영속성 컨텍스트에서 분리하므로
+     * 게시글 수와 관계없이 힙 사용량이 일정하게 유지됨
+     */
+    @Override
+    public long exportPosts(OutputStream out) throws IOException {
+        long count = 0;
+
+        try (Stream<Post> posts = postRepository.streamAllByOrderByIdAsc();
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            // 출력 스트림은 호출자가 닫으며, 루트 값 사이 구분자를 줄바꿈으로 지정
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                Post post = iterator.next();
+                objectMapper.writeValue(generator, new PostDto(post));
+                entityManager.detach(post);
+
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * JDBC 배치 크기마다 flush/clear 하여 INSERT를 묶어 보내고 영속성 컨텍스트가 커지지 않게 유지
+     */
+    @Override
+    @Transactional
+    public PostBatchCreateResponse createPosts(List<PostCreateRequest> requests) {
+        Long firstId = null;
+        Long lastId = null;
+
+        for (int i = 0; i < requests.size(); i++) {
+            PostCreateRequest request = requests.get(i);
+            Post post = new Post(request.getTitle(), request.getContent(), request.getAuthor());
+            entityManager.persist(post);
+
+            // 시퀀스 ID는 persist 시점에 할당됨
+            if (firstId == null) {
+                firstId = post.getId();
+            }
+            lastId = post.getId();
+
+            if ((i + 1) % jdbcBatchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
 
-        return new PostDto(post);
+        return new PostBatchCreateResponse(requests.size(), firstId, lastId);
     }
 
     @Override
@@ -0,0 +1,83 @@
+package com.pentasecurity.strategyboard.service.impl;
+
+import com.pentasecurity.strategyboard.cache.PostDetailCache;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.exception.PostNotFoundException;
+import com.pentasecurity.strategyboard.repository.ReactivePostRepository;
+import com.pentasecurity.strategyboard.service.ReactivePostService;
+import com.pentasecurity.strategyboard.strategy.ReactiveLoadStrategyFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 논블로킹 게시글 조회 구현체 (reactive 프로파일)
+ * 모든 DB 조회는 R2DBC로 수행하며, 메모리 캐시는 읽기만 함 (블로킹 적재 경로를 타지 않음)
+ */
+@Service
+@Profile("reactive")
+public class ReactivePostServiceImpl implements ReactivePostService {
+
+    // 내보내기 한 번에 조회하는 게시글 수
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    private final ReactiveLoadStrategyFactory strategyFactory;
+    private final ReactivePostRepository reactivePostRepository;
+    private final PostDetailCache postDetailCache;
+
+    public ReactivePostServiceImpl(ReactiveLoadStrategyFactory strategyFactory,
+                                   ReactivePostRepository reactivePostRepository,
+                                   PostDetailCache postDetailCache) {
+        this.strategyFactory = strategyFactory;
+        this.reactivePostRepository = reactivePostRepository;
+        this.postDetailCache = postDetailCache;
+    }
+
+    @Override
+    public Mono<PageResponse<PostDto>> getPosts(PostListRequest request) {
+        return Mono.defer(() -> strategyFactory.getStrategy(request.getStrategy()).loadPosts(request));
+    }
+
+    @Override
+    public Mono<PageResponse<PostSummaryDto>> getPostSummaries(PostListRequest request) {
+        return Mono.defer(() -> strategyFactory.getStrategy(request.getStrategy()).loadSummaries(request));
+    }
+
+    /**
+     * 상세 캐시에 있으면 그대로 응답하고, 없으면 R2DBC로 조회 (캐시에 적재하지 않음)
+     */
+    @Override
+    public Mono<PostDto> getPost(Long id) {
+        PostDto cached = postDetailCache.findAllPresent(List.of(id)).get(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return reactivePostRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new PostNotFoundException("게시글을 찾을 수 없습니다. ID: " + id)));
+    }
+
+    /**
+     * 이전 묶음의 마지막 ID 다음부터 조회하는 키셋 방식으로, 묶음을 하나 다 보낸 뒤에야 다음 묶음을 조회
+     */
+    @Override
+    public Flux<PostDto> exportPosts() {
+        return reactivePostRepository.findAfter(0L, EXPORT_CHUNK_SIZE).collectList()
+                .expand(chunk -> chunk.size() < EXPORT_CHUNK_SIZE
+                        ? Mono.empty()
+                        : reactivePostRepository.findAfter(chunk.get(chunk.size() - 1).getId(), EXPORT_CHUNK_SIZE)
+                                .collectList())
+                .flatMapIterable(chunk -> chunk, 1);
+    }
+
+    @Override
+    public Set<String> getAvailableStrategies() {
+        return strategyFactory.getAvailableStrategies();
+    }
+}
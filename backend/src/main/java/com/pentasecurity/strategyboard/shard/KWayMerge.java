@@ -0,0 +1,65 @@
+package com.pentasecurity.strategyboard.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * 샤드별로 ID 내림차순 정렬된 결과를 하나의 ID 내림차순 목록으로 병합
+ * 각 샤드 결과의 현재 위치를 힙에 두고 가장 큰 ID를 하나씩 꺼내므로, 필요한 skip + limit 건만 확인함
+ */
+final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    /**
+     * @param runs  샤드별 결과 (각각 ID 내림차순)
+     * @param idOf  항목의 ID
+     * @param skip  병합 순서에서 건너뛸 앞쪽 항목 수 (페이지 OFFSET)
+     * @param limit 반환할 최대 항목 수
+     */
+    static <T> List<T> newestFirst(List<List<T>> runs, ToLongFunction<T> idOf, long skip, int limit) {
+        PriorityQueue<Cursor<T>> heap = new PriorityQueue<>(Math.max(runs.size(), 1),
+                (a, b) -> Long.compare(b.id(idOf), a.id(idOf)));
+        for (List<T> run : runs) {
+            if (!run.isEmpty()) {
+                heap.add(new Cursor<>(run));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        long skipped = 0;
+        while (merged.size() < limit && !heap.isEmpty()) {
+            Cursor<T> cursor = heap.poll();
+            T head = cursor.run.get(cursor.position++);
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(head);
+            }
+            if (cursor.position < cursor.run.size()) {
+                heap.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 샤드 결과 하나와 그 안의 다음 위치
+     */
+    private static final class Cursor<T> {
+
+        private final List<T> run;
+        private int position;
+
+        Cursor(List<T> run) {
+            this.run = run;
+        }
+
+        long id(ToLongFunction<T> idOf) {
+            return idOf.applyAsLong(run.get(position));
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.pentasecurity.strategyboard.shard;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.event.PostsArchivedEvent;
+import com.pentasecurity.strategyboard.event.PostsReloadedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 ID 해시(id mod N)로 나눈 N개 샤드 저장소 (sharded 프로파일)
+ *
+ * 샤드마다 별도 DataSource(커넥션 풀)와 posts 테이블을 두고, 목록 조회는 모든 샤드에 병렬로 보낸 뒤
+ * 샤드별 상위 결과를 ID 내림차순으로 k-way 병합함. ID는 기본 DB 시퀀스가 발급하므로 샤드와 무관하게
+ * 전역에서 유일하고 증가하며, lastId 커서(id < lastId)를 그대로 사용할 수 있음.
+ *
+ * 쓰기 경로(JPA)는 기본 DB를 그대로 사용하고, 커밋된 게시글 변경 이벤트로 해당 샤드에 반영함.
+ * 기동 시(또는 대량 적재 후) 백그라운드에서 기본 DB 전체를 샤드로 다시 나누며, 완료 전까지는 isReady()가 false.
+ * 적재는 요청마다 세대 번호를 받고, 가장 최근 세대의 적재가 끝나야만 준비 완료가 됨 (연속 재적재 시 이전 적재 완료로 준비되지 않음).
+ * 변경 이벤트의 샤드 반영이 실패하면 준비 해제 후 다시 적재함
+ */
+@Component
+@Profile("sharded")
+public class ShardedPostStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedPostStore.class);
+
+    private static final int LOAD_FETCH_SIZE = 1000;
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private static final String COLUMNS = "id, title, content, author, created_at, version";
+
+    // 같은 게시글의 더 새로운 버전이 이미 반영되어 있으면 덮어쓰지 않음 (적재 중 들어온 수정 이벤트 보호)
+    private static final String UPSERT_SQL = "MERGE INTO posts t "
+            + "USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(200)), CAST(? AS VARCHAR(5000)), "
+            + "CAST(? AS VARCHAR(50)), CAST(? AS TIMESTAMP), CAST(? AS BIGINT))) "
+            + "s(id, title, content, author, created_at, version) ON t.id = s.id "
+            + "WHEN MATCHED AND s.version > t.version THEN UPDATE SET title = s.title, content = s.content, "
+            + "author = s.author, created_at = s.created_at, version = s.version "
+            + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") "
+            + "VALUES (s.id, s.title, s.content, s.author, s.created_at, s.version)";
+
+    private static final RowMapper<PostDto> POST_MAPPER = (rs, rowNum) -> {
+        PostDto post = new PostDto();
+        post.setId(rs.getLong(1));
+        post.setTitle(rs.getString(2));
+        post.setContent(rs.getString(3));
+        post.setAuthor(rs.getString(4));
+        post.setCreatedAt(rs.getObject(5, LocalDateTime.class));
+        post.setVersion(rs.getLong(6));
+        return post;
+    };
+
+    private final JdbcTemplate primary;
+    private final List<Shard> shards = new ArrayList<>();
+    private final ExecutorService queryPool;
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "shard-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 적재 중 삭제된 게시글 (적재가 먼저 읽어 둔 행이 다시 들어가지 않도록 적재 후 한 번 더 삭제)
+    private final Set<Long> deletedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    // 보관 계층으로 옮겨진 마지막 ID (적재가 보관 전에 읽어 둔 행을 적재 후 한 번 더 삭제)
+    private volatile long archivedUpTo;
+
+    // 마지막으로 요청된 적재 세대와 완료된 세대 (같을 때만 준비 완료)
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long readyGeneration = -1;
+
+    private volatile boolean loading;
+
+    public ShardedPostStore(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                            @Value("${board.shards.count:4}") int count,
+                            @Value("${board.shards.url-prefix:jdbc:h2:mem:shard-}") String urlPrefix,
+                            @Value("${board.shards.pool-size:4}") int poolSize,
+                            @Value("${board.shards.query-threads:8}") int queryThreads) {
+        if (count < 1) {
+            throw new IllegalArgumentException("board.shards.count는 1 이상이어야 합니다: " + count);
+        }
+        this.primary = jdbcTemplate;
+
+        for (int i = 0; i < count; i++) {
+            String name = "shard-" + i;
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(urlPrefix + i);
+            dataSource.setUsername("sa");
+            dataSource.setPassword("");
+            dataSource.setMaximumPoolSize(poolSize);
+
+            JdbcTemplate template = new JdbcTemplate(dataSource);
+            template.execute("CREATE TABLE IF NOT EXISTS posts (id BIGINT PRIMARY KEY, "
+                    + "title VARCHAR(200) NOT NULL, content VARCHAR(5000) NOT NULL, author VARCHAR(50) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, version BIGINT NOT NULL)");
+
+            Timer timer = Timer.builder("board.shard.query")
+                    .description("샤드별 조회 지연시간 (병렬 조회 중 가장 느린 샤드가 응답 시간을 결정)")
+                    .tag("shard", name)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            shards.add(new Shard(i, dataSource, template, timer));
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.queryPool = Executors.newFixedThreadPool(queryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기본 DB 전체를 샤드로 다시 나눔 (백그라운드, 완료 전까지는 기본 DB로 조회해야 함)
+     */
+    @EventListener({ ApplicationReadyEvent.class, PostsReloadedEvent.class })
+    public void reload() {
+        long requested = generation.incrementAndGet();
+        loader.execute(() -> load(requested));
+    }
+
+    /**
+     * 마지막으로 요청된 적재(기동 시 첫 적재 또는 재적재)가 끝났는지 여부
+     */
+    public boolean isReady() {
+        return readyGeneration == generation.get();
+    }
+
+    /**
+     * 마지막으로 요청된 적재의 세대 번호 (재적재 요청 여부 확인용)
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * 커밋된 게시글 변경을 해당 샤드에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        PostDto post = event.getPost();
+        Shard shard = shardOf(post.getId());
+        try {
+            if (event.getType() == PostChangedEvent.Type.DELETED) {
+                if (loading) {
+                    deletedWhileLoading.add(post.getId());
+                }
+                shard.jdbcTemplate.update("DELETE FROM posts WHERE id = ?", post.getId());
+            } else {
+                shard.jdbcTemplate.update(UPSERT_SQL, toRow(post));
+            }
+        } catch (RuntimeException e) {
+            // 샤드가 기본 DB와 달라졌으므로 다시 적재가 끝날 때까지 기본 DB로 조회
+            log.warn("샤드 반영 실패, 다시 적재: 게시글 {} ({})", post.getId(), event.getType(), e);
+            reload();
+        }
+    }
+
+    /**
+     * 보관 계층으로 옮겨진 게시글을 모든 샤드에서 삭제 (샤드를 다시 나누지 않음)
+     */
+    @EventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        archivedUpTo = Math.max(archivedUpTo, event.getUpToId());
+        deleteArchived(event.getUpToId());
+    }
+
+    /**
+     * lastId(없으면 최신) 다음부터 ID 내림차순으로 limit개 조회
+     * 각 샤드에서 상위 limit개만 가져오면 전체 상위 limit개가 모두 포함됨
+     */
+    public List<PostDto> findBefore(Long lastId, int limit) {
+        List<List<PostDto>> runs = scatter(shard -> lastId == null
+                ? shard.jdbcTemplate.query("SELECT " + COLUMNS + " FROM posts ORDER BY id DESC LIMIT ?",
+                        POST_MAPPER, limit)
+                : shard.jdbcTemplate.query("SELECT " + COLUMNS + " FROM posts WHERE id < ? ORDER BY id DESC LIMIT ?",
+                        POST_MAPPER, lastId, limit));
+        return KWayMerge.newestFirst(runs, PostDto::getId, 0, limit);
+    }
+
+    /**
+     * ID 내림차순 page번째 페이지 조회
+     * 샤드마다 앞쪽 (page + 1) * size개의 ID만 인덱스에서 읽어 병합으로 페이지 범위의 ID를 정한 뒤,
+     * 그 ID들만 소유 샤드에서 본문과 함께 조회 (깊은 페이지일수록 샤드별 ID 조회량이 늘어나므로 lastId 커서 권장)
+     */
+    public List<PostDto> findPage(int page, int size) {
+        long offset = (long) page * size;
+        long perShard = offset + size;
+        if (perShard > Integer.MAX_VALUE) {
+            return List.of();
+        }
+
+        List<List<Long>> idRuns = scatter(shard -> shard.jdbcTemplate.queryForList(
+                "SELECT id FROM posts ORDER BY id DESC LIMIT ?", Long.class, perShard));
+        List<Long> ids = KWayMerge.newestFirst(idRuns, Long::longValue, offset, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return findByIds(ids);
+    }
+
+    /**
+     * 전체 게시글 수 (샤드별 건수 합)
+     */
+    public long count() {
+        return scatter(shard -> shard.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * 샤드별 게시글 수 (샤드 이름 순)
+     */
+    public List<Long> countsByShard() {
+        return scatter(shard -> shard.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+        queryPool.shutdownNow();
+        for (Shard shard : shards) {
+            shard.dataSource.close();
+        }
+    }
+
+    /**
+     * ID 목록을 소유 샤드별로 나눠 병렬 조회 후 ID 내림차순으로 병합
+     */
+    private List<PostDto> findByIds(List<Long> ids) {
+        List<List<Long>> idsByShard = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            idsByShard.add(new ArrayList<>());
+        }
+        for (Long id : ids) {
+            idsByShard.get(shardIndex(id)).add(id);
+        }
+
+        List<List<PostDto>> runs = scatter(shard -> {
+            List<Long> owned = idsByShard.get(shard.index);
+            if (owned.isEmpty()) {
+                return List.of();
+            }
+            String placeholders = owned.stream().map(id -> "?").collect(Collectors.joining(", "));
+            return shard.jdbcTemplate.query("SELECT " + COLUMNS + " FROM posts WHERE id IN (" + placeholders
+                    + ") ORDER BY id DESC", POST_MAPPER, owned.toArray());
+        });
+        return KWayMerge.newestFirst(runs, PostDto::getId, 0, ids.size());
+    }
+
+    /**
+     * 모든 샤드에 같은 조회를 병렬로 보내고 샤드 순서대로 결과를 모음
+     */
+    private <T> List<T> scatter(Function<Shard, T> query) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shard.timer.record(() -> query.apply(shard)), queryPool));
+        }
+
+        List<T> results = new ArrayList<>(shards.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private void load(long requested) {
+        // 이미 더 최근 적재가 요청되었으면 그 적재에 맡김
+        if (requested != generation.get()) {
+            return;
+        }
+        long start = System.nanoTime();
+        readyGeneration = -1;
+        loading = true;
+        deletedWhileLoading.clear();
+        try {
+            for (Shard shard : shards) {
+                shard.jdbcTemplate.execute("TRUNCATE TABLE posts");
+            }
+
+            List<List<Object[]>> batches = new ArrayList<>(shards.size());
+            for (int i = 0; i < shards.size(); i++) {
+                batches.add(new ArrayList<>(LOAD_BATCH_SIZE));
+            }
+            long[] rows = new long[1];
+            primary.query(connection -> {
+                var statement = connection.prepareStatement("SELECT " + COLUMNS + " FROM posts");
+                statement.setFetchSize(LOAD_FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                PostDto post = POST_MAPPER.mapRow(resultSet, 0);
+                int index = shardIndex(post.getId());
+                List<Object[]> batch = batches.get(index);
+                batch.add(toRow(post));
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    shards.get(index).jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+                    batch.clear();
+                }
+                rows[0]++;
+            });
+            for (int i = 0; i < shards.size(); i++) {
+                if (!batches.get(i).isEmpty()) {
+                    shards.get(i).jdbcTemplate.batchUpdate(UPSERT_SQL, batches.get(i));
+                }
+            }
+
+            // 적재가 삭제 전에 읽어 둔 행 제거
+            loading = false;
+            for (Long id : deletedWhileLoading) {
+                shardOf(id).jdbcTemplate.update("DELETE FROM posts WHERE id = ?", id);
+            }
+            deletedWhileLoading.clear();
+            if (archivedUpTo > 0) {
+                deleteArchived(archivedUpTo);
+            }
+
+            readyGeneration = requested;
+            log.info("샤드 적재 완료: 게시글 {}건, 샤드 {}개, {}ms", rows[0], shards.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            loading = false;
+            // 종료 중 적재가 중단된 경우는 정상 흐름이므로 경고하지 않음
+            if (!loader.isShutdown()) {
+                log.warn("샤드 적재 실패", e);
+            }
+        }
+    }
+
+    private void deleteArchived(long upToId) {
+        scatter(shard -> shard.jdbcTemplate.update("DELETE FROM posts WHERE id <= ?", upToId));
+    }
+
+    private Shard shardOf(long id) {
+        return shards.get(shardIndex(id));
+    }
+
+    private int shardIndex(long id) {
+        return (int) Math.floorMod(id, (long) shards.size());
+    }
+
+    private static Object[] toRow(PostDto post) {
+        return new Object[] { post.getId(), post.getTitle(), post.getContent(), post.getAuthor(),
+                post.getCreatedAt(), post.getVersion() };
+    }
+
+    /**
+     * 샤드 번호(id mod N), 커넥션 풀과 조회 지연 타이머
+     */
+    private static final class Shard {
+
+        private final int index;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final Timer timer;
+
+        Shard(int index, HikariDataSource dataSource, JdbcTemplate jdbcTemplate, Timer timer) {
+            this.index = index;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = jdbcTemplate;
+            this.timer = timer;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.pentasecurity.strategyboard.strategy;
+
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * LoadStrategy 계측 데코레이터
+ * 전략 타입/응답 형태(view)별로 지연시간 히스토그램, 반환 행 수, 실행 SQL 수, 오류 수를 Micrometer에 기록
+ *
+ * <ul>
+ *     <li>board.strategy.load: 로딩 지연시간 (p50/p95/p99 + 히스토그램)</li>
+ *     <li>board.strategy.rows: 응답에 담긴 게시글 수</li>
+ *     <li>board.strategy.sql.statements: 로딩 중 실행된 SQL 문 수</li>
+ *     <li>board.strategy.errors: 로딩 실패 수 (예외 타입별)</li>
+ * </ul>
+ */
+class InstrumentedLoadStrategy implements LoadStrategy {
+
+    private final LoadStrategy delegate;
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementCounter sqlStatementCounter;
+    private final Meters postMeters;
+    private final Meters summaryMeters;
+
+    InstrumentedLoadStrategy(LoadStrategy delegate, MeterRegistry meterRegistry,
+                             SqlStatementCounter sqlStatementCounter) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.postMeters = new Meters("full");
+        this.summaryMeters = new Meters("summary");
+    }
+
+    @Override
+    public PageResponse<PostDto> loadPosts(PostListRequest request) {
+        return record(postMeters, () -> delegate.loadPosts(request));
+    }
+
+    @Override
+    public PageResponse<PostSummaryDto> loadSummaries(PostListRequest request) {
+        return record(summaryMeters, () -> delegate.loadSummaries(request));
+    }
+
+    @Override
+    public String getStrategyType() {
+        return delegate.getStrategyType();
+    }
+
+    private <T> PageResponse<T> record(Meters meters, Supplier<PageResponse<T>> load) {
+        long statementsBefore = sqlStatementCounter.current();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            PageResponse<T> response = load.get();
+            sample.stop(meters.latency);
+            meters.rows.record(response.getContent() == null ? 0 : response.getContent().size());
+            return response;
+        } catch (RuntimeException e) {
+            sample.stop(meters.failureLatency);
+            Counter.builder("board.strategy.errors")
+                    .description("게시글 목록 로딩 실패 수")
+                    .tag("strategy", getStrategyType())
+                    .tag("view", meters.view)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            meters.statements.record(sqlStatementCounter.current() - statementsBefore);
+        }
+    }
+
+    /**
+     * 응답 형태(view)별 미터 묶음 (요청마다 레지스트리를 조회하지 않도록 미리 등록)
+     */
+    private final class Meters {
+
+        private final String view;
+        private final Timer latency;
+        private final Timer failureLatency;
+        private final DistributionSummary rows;
+        private final DistributionSummary statements;
+
+        private Meters(String view) {
+            this.view = view;
+            this.latency = timer("success");
+            this.failureLatency = timer("error");
+            this.rows = DistributionSummary.builder("board.strategy.rows")
+                    .description("응답에 담긴 게시글 수")
+                    .baseUnit("rows")
+                    .tag("strategy", getStrategyType())
+                    .tag("view", view)
+                    .register(meterRegistry);
+            this.statements = DistributionSummary.builder("board.strategy.sql.statements")
+                    .description("목록 로딩 중 실행된 SQL 문 수")
+                    .baseUnit("statements")
+                    .tag("strategy", getStrategyType())
+                    .tag("view", view)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("board.strategy.load")
+                    .description("게시글 목록 로딩 지연시간")
+                    .tag("strategy", getStrategyType())
+                    .tag("view", view)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.pentasecurity.strategyboard.strategy;
 import com.pentasecurity.strategyboard.dto.PostDto;
 import com.pentasecurity.strategyboard.dto.PostListRequest;
 import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
 
 /**
  * 게시글 로딩 전략을 정의하는 인터페이스
@@ -18,6 +19,17 @@ public interface LoadStrategy {
      */
     PageResponse<PostDto> loadPosts(PostListRequest request);
 
+    /**
+     * 게시글 요약 목록을 로딩하는 전략 메서드
+     * 기본 구현은 전체 DTO를 변환하며, 구현체는 본문을 읽지 않는 프로젝션 쿼리로 재정의할 수 있음
+     *
+     * @param request 로딩 요청 정보 (페이지, 크기, 커서 등)
+     * @return 로딩된 게시글 요약 목록과 페이징 정보
+     */
+    default PageResponse<PostSummaryDto> loadSummaries(PostListRequest request) {
+        return loadPosts(request).map(PostSummaryDto::new);
+    }
+
     /**
      * 전략의 타입을 반환
      * 
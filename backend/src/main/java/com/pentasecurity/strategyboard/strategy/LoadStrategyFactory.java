@@ -1,5 +1,7 @@
 package com.pentasecurity.strategyboard.strategy;
 
+import com.pentasecurity.strategyboard.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
@@ -9,6 +11,7 @@ import java.util.Map;
 /**
  * LoadStrategy 인스턴스를 관리하는 팩토리 클래스
  * Strategy Pattern에서 전략 객체들을 생성하고 관리
+ * 등록되는 모든 전략은 계측 데코레이터(InstrumentedLoadStrategy)로 감싸서 제공
  */
 @Component
 public class LoadStrategyFactory {
@@ -16,19 +19,21 @@ public class LoadStrategyFactory {
     private final Map<String, LoadStrategy> strategies;
 
     // 생성자에서 모든 LoadStrategy 구현체들을 주입받아 Map으로 관리
-    public LoadStrategyFactory(List<LoadStrategy> loadStrategies) {
+    public LoadStrategyFactory(List<LoadStrategy> loadStrategies, MeterRegistry meterRegistry,
+                               SqlStatementCounter sqlStatementCounter) {
         this.strategies = new HashMap<>();
 
-        // 각 전략을 타입별로 Map에 저장
+        // 각 전략을 계측 데코레이터로 감싸 타입별로 Map에 저장
         for (LoadStrategy strategy : loadStrategies) {
-            strategies.put(strategy.getStrategyType(), strategy);
+            strategies.put(strategy.getStrategyType(),
+                    new InstrumentedLoadStrategy(strategy, meterRegistry, sqlStatementCounter));
         }
     }
 
     /**
      * 전략 타입에 따라 적절한 LoadStrategy 구현체를 반환
      * 
-     * @param strategyType 전략 타입 ("pagination" 또는 "infinite")
+     * @param strategyType 전략 타입 ("pagination", "infinite", "keyset-pagination", "auto", "search", sharded 프로파일의 "sharded")
      * @return 해당하는 LoadStrategy 구현체
      * @throws IllegalArgumentException 지원하지 않는 전략 타입인 경우
      */
@@ -0,0 +1,39 @@
+package com.pentasecurity.strategyboard.strategy;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 게시글 로딩 전략 인터페이스 (reactive 프로파일)
+ * LoadStrategy와 같은 요청/응답 형식을 쓰며, 조회가 끝나면 완료되는 Mono로 결과를 반환
+ */
+public interface ReactiveLoadStrategy {
+
+    /**
+     * 게시글 목록을 로딩하는 전략 메서드
+     *
+     * @param request 로딩 요청 정보 (페이지, 크기, 커서 등)
+     * @return 로딩된 게시글 목록과 페이징 정보
+     */
+    Mono<PageResponse<PostDto>> loadPosts(PostListRequest request);
+
+    /**
+     * 게시글 요약 목록을 로딩하는 전략 메서드
+     *
+     * @param request 로딩 요청 정보 (페이지, 크기, 커서 등)
+     * @return 로딩된 게시글 요약 목록과 페이징 정보
+     */
+    default Mono<PageResponse<PostSummaryDto>> loadSummaries(PostListRequest request) {
+        return loadPosts(request).map(response -> response.map(PostSummaryDto::new));
+    }
+
+    /**
+     * 전략의 타입을 반환
+     *
+     * @return 전략 타입 문자열
+     */
+    String getStrategyType();
+}
@@ -0,0 +1,49 @@
+package com.pentasecurity.strategyboard.strategy;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ReactiveLoadStrategy 인스턴스를 관리하는 팩토리 클래스 (reactive 프로파일)
+ */
+@Component
+@Profile("reactive")
+public class ReactiveLoadStrategyFactory {
+
+    private final Map<String, ReactiveLoadStrategy> strategies;
+
+    public ReactiveLoadStrategyFactory(List<ReactiveLoadStrategy> loadStrategies) {
+        this.strategies = new HashMap<>();
+        for (ReactiveLoadStrategy strategy : loadStrategies) {
+            strategies.put(strategy.getStrategyType(), strategy);
+        }
+    }
+
+    /**
+     * 전략 타입에 따라 적절한 ReactiveLoadStrategy 구현체를 반환
+     *
+     * @param strategyType 전략 타입 ("pagination", "infinite")
+     * @return 해당하는 ReactiveLoadStrategy 구현체
+     * @throws IllegalArgumentException 지원하지 않는 전략 타입인 경우
+     */
+    public ReactiveLoadStrategy getStrategy(String strategyType) {
+        ReactiveLoadStrategy strategy = strategies.get(strategyType);
+
+        if (strategy == null) {
+            throw new IllegalArgumentException(
+                    "지원하지 않는 로딩 전략입니다: " + strategyType +
+                            ". 지원하는 전략: " + strategies.keySet());
+        }
+
+        return strategy;
+    }
+
+    public Set<String> getAvailableStrategies() {
+        return strategies.keySet();
+    }
+}
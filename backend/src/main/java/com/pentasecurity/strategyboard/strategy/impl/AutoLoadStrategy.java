@@ -0,0 +1,303 @@
+package com.pentasecurity.strategyboard.strategy.impl;
+
+import com.pentasecurity.strategyboard.archive.PostArchive;
+import com.pentasecurity.strategyboard.cache.HotPostRing;
+import com.pentasecurity.strategyboard.counter.PostCounter;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 형태에 따라 접근 경로를 자동으로 고르는 로딩 전략 구현체
+ *
+ * <ul>
+ *     <li>최신 게시글 버퍼로 응답 가능한 첫 페이지/얕은 커서: 메모리 버퍼 (DB 조회 없음)</li>
+ *     <li>그 밖의 커서(lastId) 요청과 첫 페이지: PK 키셋 탐색 (DB 구간이 끝나면 보관 계층에서 이어서 채움)</li>
+ *     <li>커서 없는 얕은 페이지 이동: OFFSET 조회</li>
+ *     <li>커서 없는 깊은 페이지 이동: OFFSET 조회와 지연 조인(ID만 OFFSET 후 PK 조회) 중
+ *         최근 지연시간(EWMA)이 더 낮은 쪽</li>
+ * </ul>
+ *
+ * 버퍼가 ID 순서로만 보관하므로 모든 경로가 ID 내림차순으로 조회하여, 경로가 바뀌어도 같은 페이지가 나옴.
+ * 버퍼/키셋 경로는 size + 1개를 조회해 다음 페이지 존재 여부를 확인하고,
+ * 페이지 번호 경로는 DB에 남은 게시글만 대상으로 함 (보관된 게시글은 커서로만 이어서 조회).
+ * 어떤 경로로 응답하든 페이징 정보(전체 건수/페이지 수)와 다음 커서를 모두 채워서
+ * 기존 페이징/무한스크롤 클라이언트가 그대로 사용할 수 있음
+ */
+@Component
+public class AutoLoadStrategy implements LoadStrategy {
+
+    // 지연시간 이동 평균 가중치 (최근 요청 반영 비율)
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final PostRepository postRepository;
+    private final PostCounter postCounter;
+    private final HotPostRing hotPostRing;
+    private final PostArchive postArchive;
+    private final int deepOffsetThreshold;
+    private final int exploreInterval;
+
+    private final Map<Route, Ewma> latencies = new EnumMap<>(Route.class);
+    private final Map<Route, Counter> routeCounters = new EnumMap<>(Route.class);
+    private final AtomicLong deepRequests = new AtomicLong();
+
+    private final Paths<PostDto> postPaths;
+    private final Paths<PostSummaryDto> summaryPaths;
+
+    public AutoLoadStrategy(PostRepository postRepository, PostCounter postCounter, HotPostRing hotPostRing,
+                            PostArchive postArchive, MeterRegistry meterRegistry,
+                            @Value("${board.auto.deep-offset-threshold:1000}") int deepOffsetThreshold,
+                            @Value("${board.auto.explore-interval:20}") int exploreInterval) {
+        this.postRepository = postRepository;
+        this.postCounter = postCounter;
+        this.hotPostRing = hotPostRing;
+        this.postArchive = postArchive;
+        this.deepOffsetThreshold = deepOffsetThreshold;
+        this.exploreInterval = exploreInterval;
+
+        for (Route route : Route.values()) {
+            latencies.put(route, new Ewma());
+            routeCounters.put(route, Counter.builder("board.strategy.auto.route")
+                    .description("auto 전략의 경로별 선택 횟수")
+                    .tag("route", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        this.postPaths = new Paths<>(
+                Function.identity(),
+                pageable -> toDtos(postRepository.findAllByOrderByIdDesc(pageable)),
+                (lastId, pageable) -> toDtos(postRepository.findByIdLessThanOrderByIdDesc(lastId, pageable)),
+                ids -> toDtos(postRepository.findAllById(ids)),
+                PostDto::getId);
+        this.summaryPaths = new Paths<>(
+                posts -> posts.stream().map(PostSummaryDto::new).collect(Collectors.toList()),
+                postRepository::findSummariesByOrderByIdDesc,
+                postRepository::findSummariesByIdLessThanOrderByIdDesc,
+                postRepository::findSummariesByIdIn,
+                PostSummaryDto::getId);
+    }
+
+    @Override
+    public PageResponse<PostDto> loadPosts(PostListRequest request) {
+        return load(request, postPaths);
+    }
+
+    @Override
+    public PageResponse<PostSummaryDto> loadSummaries(PostListRequest request) {
+        return load(request, summaryPaths);
+    }
+
+    @Override
+    public String getStrategyType() {
+        return "auto";
+    }
+
+    private <T> PageResponse<T> load(PostListRequest request, Paths<T> paths) {
+        if (request.hasAuthor()) {
+            // 버퍼/키셋/지연 조인 경로 모두 작성자 조건이 없으므로 전체 게시글을 돌려주지 않도록 거부
+            throw new InvalidRequestException("auto 전략은 작성자 필터를 지원하지 않습니다 (pagination 또는 infinite 사용)");
+        }
+        int size = request.getSize();
+
+        // 1. 첫 페이지 또는 커서 요청: 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        if (request.getLastId() != null || request.getPage() == 0) {
+            Long lastId = request.getLastId();
+            int fetchSize = size + 1;
+            // 버퍼로 응답 가능하면 DB를 거치지 않음
+            // (버퍼가 DB 전체를 담고 있어 덜 돌려준 경우라도, 보관된 게시글이 있으면 그 뒤를 이어야 하므로 사용하지 않음)
+            Optional<List<PostDto>> cached = hotPostRing.slice(lastId, fetchSize)
+                    .filter(posts -> posts.size() == fetchSize || postArchive.archivedUpTo() == 0);
+            List<T> rows;
+            if (cached.isPresent()) {
+                routeCounters.get(Route.CACHED).increment();
+                rows = paths.fromPosts().apply(cached.get());
+            } else {
+                // 2. 버퍼 범위 밖: 키셋 탐색 (첫 페이지는 OFFSET 0과 같은 비용)
+                rows = timed(Route.KEYSET, () -> seek(lastId, fetchSize, paths));
+            }
+
+            boolean hasNext = rows.size() > size;
+            List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+            return complete(new PageResponse<>(content, request.getPage(), size, hasNext, null), request, paths);
+        }
+
+        // 3. 커서 없는 페이지 이동: 얕은 페이지는 OFFSET, 깊은 페이지는 더 빠른 쪽을 선택
+        long offset = (long) request.getPage() * size;
+        Route route = offset < deepOffsetThreshold ? Route.OFFSET : chooseDeepRoute();
+        PageResponse<T> response = route == Route.OFFSET
+                ? timed(route, () -> new PageResponse<>(paths.latest().apply(PageRequest.of(request.getPage(), size)),
+                        request.getPage(), size, postCounter.get()), offset + size)
+                : timed(route, () -> loadDeferred(request, paths), offset + size);
+        return complete(response, request, paths);
+    }
+
+    /**
+     * lastId(없으면 최신) 다음부터 ID 내림차순으로 limit개 조회
+     * 커서가 보관 구간에 들어가면 보관 계층에서만 읽고, DB 구간만으로 채우지 못하면 나머지를 보관 계층에서 이어서 조회
+     */
+    private <T> List<T> seek(Long lastId, int limit, Paths<T> paths) {
+        long archivedUpTo = postArchive.archivedUpTo();
+        if (lastId != null && lastId <= archivedUpTo + 1) {
+            return paths.fromPosts().apply(postArchive.findBefore(lastId, limit));
+        }
+
+        Pageable pageable = PageRequest.of(0, limit);
+        List<T> rows = lastId == null ? paths.latest().apply(pageable) : paths.before().apply(lastId, pageable);
+        if (rows.size() >= limit || archivedUpTo == 0) {
+            return rows;
+        }
+
+        long beforeId = rows.isEmpty()
+                ? (lastId == null ? Long.MAX_VALUE : lastId)
+                : paths.idOf().apply(rows.get(rows.size() - 1));
+        List<T> filled = new ArrayList<>(rows);
+        filled.addAll(paths.fromPosts().apply(postArchive.findBefore(beforeId, limit - rows.size())));
+        return filled;
+    }
+
+    /**
+     * 깊은 페이지 경로 선택
+     * 평소에는 스캔 행당 지연시간이 낮은 경로를 쓰되, exploreInterval번마다 다른 경로를 시도해 통계를 갱신
+     */
+    private Route chooseDeepRoute() {
+        double offsetCost = latencies.get(Route.OFFSET).value();
+        double deferredCost = latencies.get(Route.DEFERRED_JOIN).value();
+        Route best = offsetCost <= deferredCost ? Route.OFFSET : Route.DEFERRED_JOIN;
+
+        // 아직 측정되지 않은 경로가 있으면 먼저 측정
+        if (Double.isNaN(offsetCost) || Double.isNaN(deferredCost)) {
+            best = Double.isNaN(deferredCost) ? Route.DEFERRED_JOIN : Route.OFFSET;
+        } else if (deepRequests.incrementAndGet() % exploreInterval == 0) {
+            best = best == Route.OFFSET ? Route.DEFERRED_JOIN : Route.OFFSET;
+        }
+        return best;
+    }
+
+    /**
+     * 지연 조인: 인덱스에서 ID만 OFFSET으로 건너뛴 뒤 해당 ID의 행만 PK로 조회
+     */
+    private <T> PageResponse<T> loadDeferred(PostListRequest request, Paths<T> paths) {
+        List<Long> ids = postRepository.findIdsByOrderByIdDesc(PageRequest.of(request.getPage(), request.getSize()));
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 ID 페이지 순서로 재정렬
+        Map<Long, T> rowsById = new HashMap<>();
+        for (T row : paths.byIds().apply(ids)) {
+            rowsById.put(paths.idOf().apply(row), row);
+        }
+        List<T> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = rowsById.get(id);
+            if (row != null) {
+                content.add(row);
+            }
+        }
+        return new PageResponse<>(content, request.getPage(), request.getSize(), postCounter.get());
+    }
+
+    private static List<PostDto> toDtos(List<Post> posts) {
+        return posts.stream()
+                .map(PostDto::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 경로와 무관하게 페이징 정보와 다음 커서를 채움
+     */
+    private <T> PageResponse<T> complete(PageResponse<T> response, PostListRequest request, Paths<T> paths) {
+        List<T> content = response.getContent();
+        long totalElements = postCounter.get();
+
+        response.setPage(request.getPage());
+        response.setSize(request.getSize());
+        response.setTotalElements(totalElements);
+        response.setTotalPages((int) Math.ceil((double) totalElements / request.getSize()));
+        response.setFirst(request.getPage() == 0);
+        response.setLast(!response.isHasNext());
+        response.setNextCursor(response.isHasNext() && !content.isEmpty()
+                ? paths.idOf().apply(content.get(content.size() - 1))
+                : null);
+        return response;
+    }
+
+    private <R> R timed(Route route, Supplier<R> load) {
+        return timed(route, load, 1);
+    }
+
+    /**
+     * 경로별 지연시간을 스캔 행 수로 나눈 값(행당 비용)으로 기록
+     */
+    private <R> R timed(Route route, Supplier<R> load, long scannedRows) {
+        routeCounters.get(route).increment();
+        long start = System.nanoTime();
+        R response = load.get();
+        latencies.get(route).update((double) (System.nanoTime() - start) / scannedRows);
+        return response;
+    }
+
+    /**
+     * auto 전략이 선택할 수 있는 접근 경로
+     */
+    private enum Route {
+        CACHED, KEYSET, OFFSET, DEFERRED_JOIN
+    }
+
+    /**
+     * 잠금 없는 지수 이동 평균 (측정 전에는 NaN)
+     */
+    private static final class Ewma {
+
+        private final AtomicLong bits = new AtomicLong(Double.doubleToLongBits(Double.NaN));
+
+        void update(double sample) {
+            bits.accumulateAndGet(Double.doubleToLongBits(sample), (current, next) -> {
+                double previous = Double.longBitsToDouble(current);
+                double value = Double.longBitsToDouble(next);
+                return Double.doubleToLongBits(
+                        Double.isNaN(previous) ? value : previous + EWMA_ALPHA * (value - previous));
+            });
+        }
+
+        double value() {
+            return Double.longBitsToDouble(bits.get());
+        }
+    }
+
+    /**
+     * 응답 형태별 경로 구현 묶음 (모두 ID 내림차순)
+     *
+     * @param fromPosts 최신 게시글 버퍼/보관 계층 항목 변환
+     * @param latest    최신순 조회 (첫 페이지 키셋 탐색, OFFSET 페이징)
+     * @param before    커서 이전 게시글 키셋 탐색
+     * @param byIds     지연 조인의 PK 조회
+     * @param idOf      행에서 다음 커서로 쓸 ID 추출
+     */
+    private record Paths<T>(Function<List<PostDto>, List<T>> fromPosts,
+                            Function<Pageable, List<T>> latest,
+                            BiFunction<Long, Pageable, List<T>> before,
+                            Function<List<Long>, List<T>> byIds,
+                            Function<T, Long> idOf) {
+    }
+}
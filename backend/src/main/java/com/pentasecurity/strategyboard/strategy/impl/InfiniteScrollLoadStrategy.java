@@ -1,71 +1,358 @@
 package com.pentasecurity.strategyboard.strategy.impl;
 
+import com.pentasecurity.strategyboard.archive.PostArchive;
+import com.pentasecurity.strategyboard.cache.AuthorFeedCache;
+import com.pentasecurity.strategyboard.cache.HotPostRing;
+import com.pentasecurity.strategyboard.cursor.CursorCodec;
+import com.pentasecurity.strategyboard.cursor.CursorToken;
+import com.pentasecurity.strategyboard.cursor.PostSort;
 import com.pentasecurity.strategyboard.dto.PostDto;
 import com.pentasecurity.strategyboard.dto.PostListRequest;
 import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
 import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidCursorException;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.prefetch.NextPagePrefetcher;
 import com.pentasecurity.strategyboard.repository.PostRepository;
 import com.pentasecurity.strategyboard.strategy.LoadStrategy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 무한스크롤 기반 로딩 전략 구현체
  * 커서(Cursor) 기반 페이징을 제공하여 무한스크롤 구현
+ * 최신 구간은 HotPostRing에서, 그보다 오래된 커서만 DB에서 조회
+ *
+ * 기본 정렬(ID 내림차순) 외의 정렬은 커서 토큰에 담긴 (정렬 키, ID)부터 인덱스를 탐색하므로
+ * 정렬과 무관하게 페이지가 깊어져도 OFFSET이 늘어나지 않으며, 이전 페이지로도 이동 가능
+ *
+ * 작성자 필터가 있으면 작성자 게시글만 ID 최신순으로 lastId 커서를 따라 조회하며,
+ * 최신 구간은 작성자 캐시에서, 그보다 오래된 커서는 (author, id) 인덱스 탐색으로 조회
+ *
+ * 최신순 다음 페이지 요청(전체 응답)은 응답 후 그 다음 페이지를 NextPagePrefetcher로 미리 조회해 두므로,
+ * 이어지는 스크롤 요청은 버퍼 범위 밖이어도 DB 조회 없이 응답
+ *
+ * 최신순 커서가 보관 구간(PostArchive.archivedUpTo() 이하)에 들어가면 DB 대신 보관 세그먼트에서 읽고,
+ * 경계에 걸친 페이지는 DB 결과 뒤를 보관 게시글로 채움 (작성자 피드/정렬 키 탐색은 DB 구간만 조회)
  */
 @Component
 public class InfiniteScrollLoadStrategy implements LoadStrategy {
 
     private final PostRepository postRepository;
+    private final HotPostRing hotPostRing;
+    private final CursorCodec cursorCodec;
+    private final AuthorFeedCache authorFeedCache;
+    private final NextPagePrefetcher prefetcher;
+    private final PostArchive postArchive;
 
-    public InfiniteScrollLoadStrategy(PostRepository postRepository) {
+    public InfiniteScrollLoadStrategy(PostRepository postRepository, HotPostRing hotPostRing,
+                                      CursorCodec cursorCodec, AuthorFeedCache authorFeedCache,
+                                      NextPagePrefetcher prefetcher, PostArchive postArchive) {
         this.postRepository = postRepository;
+        this.hotPostRing = hotPostRing;
+        this.cursorCodec = cursorCodec;
+        this.authorFeedCache = authorFeedCache;
+        this.prefetcher = prefetcher;
+        this.postArchive = postArchive;
     }
 
     @Override
     public PageResponse<PostDto> loadPosts(PostListRequest request) {
+        if (request.hasAuthor()) {
+            return loadByAuthor(request);
+        }
+
+        CursorToken token = decodeCursor(request);
+        PostSort sort = token != null ? token.sort() : PostSort.from(request.getSort());
+
+        if (!isNewestFirstForward(sort, token)) {
+            return seek(sort, token, request.getSize());
+        }
+
+        // 첫 페이지나 얕은 커서는 최신 게시글 버퍼에서, 그 다음은 선조회된 페이지에서 바로 응답
+        Long lastId = token != null ? Long.valueOf(token.id()) : request.getLastId();
+        int size = request.getSize();
+        List<PostDto> postDtos = ringSlice(lastId, size)
+                .or(() -> prefetcher.take(null, lastId, size))
+                .orElseGet(() -> loadFromRepository(lastId, size));
+
+        PageResponse<PostDto> response = toResponse(postDtos, size, lastId, PostDto::getId);
+
+        // 다음 페이지도 버퍼로 응답할 수 없으면 미리 조회
+        Long nextCursor = response.getNextCursor();
+        if (nextCursor != null && ringSlice(nextCursor, size).isEmpty()) {
+            prefetcher.prefetch(null, nextCursor, size, () -> loadFromRepository(nextCursor, size));
+        }
+        return response;
+    }
+
+    @Override
+    public PageResponse<PostSummaryDto> loadSummaries(PostListRequest request) {
+        if (request.hasAuthor()) {
+            // 작성자 캐시 항목을 그대로 요약으로 변환
+            return loadByAuthor(request).map(PostSummaryDto::new);
+        }
+
+        CursorToken token = decodeCursor(request);
+        PostSort sort = token != null ? token.sort() : PostSort.from(request.getSort());
+
+        if (!isNewestFirstForward(sort, token)) {
+            // 정렬 키 탐색은 전체 DTO 기준으로 수행한 뒤 요약으로 변환
+            return seek(sort, token, request.getSize()).map(PostSummaryDto::new);
+        }
+
+        // 버퍼 적중 시 보관 중인 DTO를 요약으로 변환, 아니면 요약 프로젝션으로 조회
+        Long lastId = token != null ? Long.valueOf(token.id()) : request.getLastId();
+        List<PostSummaryDto> summaries = ringSlice(lastId, request.getSize())
+                .map(posts -> posts.stream().map(PostSummaryDto::new).collect(Collectors.toList()))
+                .orElseGet(() -> loadSummariesFromRepository(lastId, request.getSize()));
+
+        return toResponse(summaries, request.getSize(), lastId, PostSummaryDto::getId);
+    }
+
+    /**
+     * 최신 게시글 버퍼 조회
+     * 버퍼가 DB 전체를 담고 있어 size보다 적게 돌려준 경우라도, 보관된 게시글이 있으면 그 뒤를 이어야 하므로 사용하지 않음
+     */
+    private Optional<List<PostDto>> ringSlice(Long lastId, int size) {
+        return hotPostRing.slice(lastId, size)
+                .filter(posts -> posts.size() == size || postArchive.archivedUpTo() == 0);
+    }
+
+    /**
+     * 작성자 피드 (ID 최신순, lastId 커서)
+     * 커서 토큰에는 작성자 조건이 담기지 않으므로 정렬 지정/커서 토큰과 함께 쓸 수 없음
+     */
+    private PageResponse<PostDto> loadByAuthor(PostListRequest request) {
+        if ((request.getCursor() != null && !request.getCursor().isBlank())
+                || PostSort.from(request.getSort()) != PostSort.ID_DESC) {
+            throw new InvalidRequestException("작성자 필터는 lastId 커서와 최신순 정렬만 지원합니다");
+        }
+
+        String author = request.getAuthor();
+        Long lastId = request.getLastId();
+        int size = request.getSize();
+        // 다음 페이지 존재 여부 확인을 위해 캐시/선조회/DB 모두 size + 1개 단위로 조회
+        int fetchSize = size + 1;
+        List<PostDto> rows = authorFeedCache.slice(author, lastId, fetchSize)
+                .or(() -> prefetcher.take(author, lastId, fetchSize))
+                .orElseGet(() -> loadAuthorPage(author, lastId, fetchSize));
+
+        boolean hasNext = rows.size() > size;
+        List<PostDto> postDtos = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? postDtos.get(postDtos.size() - 1).getId() : null;
+
+        // 다음 페이지가 작성자 캐시 범위 밖이면 미리 조회
+        if (nextCursor != null && authorFeedCache.slice(author, nextCursor, fetchSize).isEmpty()) {
+            prefetcher.prefetch(author, nextCursor, fetchSize, () -> loadAuthorPage(author, nextCursor, fetchSize));
+        }
+        return new PageResponse<>(postDtos, hasNext, nextCursor);
+    }
+
+    private List<PostDto> loadAuthorPage(String author, Long lastId, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        return toDtos(lastId == null
+                ? postRepository.findByAuthorOrderByIdDesc(author, pageable)
+                : postRepository.findByAuthorAndIdLessThanOrderByIdDesc(author, lastId, pageable));
+    }
+
+    /**
+     * 기존 무한스크롤 경로(ID 내림차순, 다음 방향)로 처리할 수 있는 요청인지 여부
+     */
+    private static boolean isNewestFirstForward(PostSort sort, CursorToken token) {
+        return sort == PostSort.ID_DESC && (token == null || !token.isBackward());
+    }
+
+    private <T> PageResponse<T> toResponse(List<T> content, int size, Long lastId, Function<T, Long> idOf) {
+        // 다음 페이지가 있는지 확인
+        boolean hasNext = content.size() == size;
+        Long nextCursor = null;
+
+        if (hasNext && !content.isEmpty()) {
+            // 마지막 게시글의 ID를 다음 커서로 설정
+            nextCursor = idOf.apply(content.get(content.size() - 1));
+        }
+
+        // PageResponse 생성 (무한스크롤 정보 포함)
+        PageResponse<T> response = new PageResponse<>(content, hasNext, nextCursor);
+
+        // ID 정렬 토큰은 정렬 키 값 없이 ID만 담음
+        if (nextCursor != null) {
+            response.setNextToken(encode(PostSort.ID_DESC, null, nextCursor, CursorToken.Direction.NEXT));
+        }
+        if (lastId != null && !content.isEmpty()) {
+            response.setPrevToken(encode(PostSort.ID_DESC, null, idOf.apply(content.get(0)),
+                    CursorToken.Direction.PREV));
+        }
+        return response;
+    }
+
+    private List<PostDto> loadFromRepository(Long lastId, int size) {
+        // 커서가 보관 구간에 들어가면 DB를 조회하지 않고 보관 계층에서만 읽음
+        if (lastId != null && lastId <= postArchive.archivedUpTo() + 1) {
+            return postArchive.findBefore(lastId, size);
+        }
+
+        Pageable pageable = PageRequest.of(0, size);
         List<Post> posts;
 
         // 첫 번째 로딩인지 확인 (lastId가 없는 경우)
-        if (request.getLastId() == null) {
+        if (lastId == null) {
             // 첫 페이지: 최신 게시글부터 size만큼 조회
-            Pageable pageable = PageRequest.of(0, request.getSize());
-            posts = postRepository.findTop10ByOrderByIdDesc();
-
-            // 요청한 size만큼만 가져오기
-            if (posts.size() > request.getSize()) {
-                posts = posts.subList(0, request.getSize());
-            }
+            posts = postRepository.findAllByOrderByIdDesc(pageable);
         } else {
             // 다음 페이지: lastId보다 작은 ID의 게시글들을 조회
-            Pageable pageable = PageRequest.of(0, request.getSize());
-            posts = postRepository.findByIdLessThanOrderByIdDesc(request.getLastId(), pageable);
+            posts = postRepository.findByIdLessThanOrderByIdDesc(lastId, pageable);
         }
 
         // Entity를 DTO로 변환
-        List<PostDto> postDtos = posts.stream()
-                .map(PostDto::new)
-                .collect(Collectors.toList());
+        return fillFromArchive(toDtos(posts), lastId, size, PostDto::getId, Function.identity());
+    }
 
-        // 다음 페이지가 있는지 확인
-        boolean hasNext = posts.size() == request.getSize();
-        Long nextCursor = null;
+    private List<PostSummaryDto> loadSummariesFromRepository(Long lastId, int size) {
+        if (lastId != null && lastId <= postArchive.archivedUpTo() + 1) {
+            return postArchive.findBefore(lastId, size).stream()
+                    .map(PostSummaryDto::new)
+                    .collect(Collectors.toList());
+        }
 
-        if (hasNext && !posts.isEmpty()) {
-            // 마지막 게시글의 ID를 다음 커서로 설정
-            nextCursor = posts.get(posts.size() - 1).getId();
+        Pageable pageable = PageRequest.of(0, size);
+        List<PostSummaryDto> summaries = lastId == null
+                ? postRepository.findSummariesByOrderByIdDesc(pageable)
+                : postRepository.findSummariesByIdLessThanOrderByIdDesc(lastId, pageable);
+        return fillFromArchive(summaries, lastId, size, PostSummaryDto::getId, PostSummaryDto::new);
+    }
+
+    /**
+     * DB(보관 이후 구간)만으로 size개를 채우지 못했으면 나머지를 보관 계층에서 이어서 조회
+     */
+    private <T> List<T> fillFromArchive(List<T> content, Long lastId, int size, Function<T, Long> idOf,
+                                        Function<PostDto, T> convert) {
+        if (content.size() >= size || postArchive.archivedUpTo() == 0) {
+            return content;
         }
+        long beforeId = content.isEmpty()
+                ? (lastId == null ? Long.MAX_VALUE : lastId)
+                : idOf.apply(content.get(content.size() - 1));
 
-        // PageResponse 생성 (무한스크롤 정보 포함)
-        return new PageResponse<>(postDtos, hasNext, nextCursor);
+        List<T> filled = new ArrayList<>(content);
+        for (PostDto archived : postArchive.findBefore(beforeId, size - content.size())) {
+            filled.add(convert.apply(archived));
+        }
+        return filled;
+    }
+
+    /**
+     * 정렬 키 탐색
+     * 다음 방향은 기준 게시글 다음부터 정렬 순서대로, 이전 방향은 반대 정렬로 기준 게시글 이전을 조회한 뒤 뒤집음
+     */
+    private PageResponse<PostDto> seek(PostSort sort, CursorToken token, int size) {
+        boolean backward = token != null && token.isBackward();
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<Post> rows;
+        if (token == null) {
+            rows = findFirst(sort, pageable);
+        } else {
+            rows = findAfter(backward ? sort.reverse() : sort, token, pageable);
+        }
+
+        // 요청보다 한 건 더 조회해 그 방향으로 더 있는지 확인
+        boolean more = rows.size() > size;
+        List<PostDto> content = toDtos(more ? rows.subList(0, size) : rows);
+        if (backward) {
+            content = new ArrayList<>(content);
+            Collections.reverse(content);
+        }
+
+        // 이전 방향으로 왔다면 기준 게시글이 다음 쪽에 남아 있고, 다음 방향으로 왔다면 이전 쪽에 남아 있음
+        boolean hasNext = backward || more;
+        boolean hasPrev = backward ? more : token != null;
+
+        PostDto last = content.isEmpty() ? null : content.get(content.size() - 1);
+        Long nextCursor = hasNext && last != null && sort == PostSort.ID_DESC ? last.getId() : null;
+        PageResponse<PostDto> response = new PageResponse<>(content, hasNext && last != null, nextCursor);
+
+        if (hasNext && last != null) {
+            response.setNextToken(encode(sort, sort.keyOf(last), last.getId(), CursorToken.Direction.NEXT));
+        }
+        if (hasPrev && !content.isEmpty()) {
+            PostDto first = content.get(0);
+            response.setPrevToken(encode(sort, sort.keyOf(first), first.getId(), CursorToken.Direction.PREV));
+        }
+        return response;
+    }
+
+    private List<Post> findFirst(PostSort sort, Pageable pageable) {
+        return switch (sort) {
+            case ID_DESC -> postRepository.findAllByOrderByIdDesc(pageable);
+            case ID_ASC -> postRepository.findAllByOrderByIdAsc(pageable);
+            case CREATED_AT_DESC -> postRepository.findAllByOrderByCreatedAtDescIdDesc(pageable);
+            case CREATED_AT_ASC -> postRepository.findAllByOrderByCreatedAtAscIdAsc(pageable);
+            case AUTHOR_ASC -> postRepository.findAllByOrderByAuthorAscIdAsc(pageable);
+            case AUTHOR_DESC -> postRepository.findAllByOrderByAuthorDescIdDesc(pageable);
+        };
+    }
+
+    /**
+     * 주어진 정렬 순서에서 토큰의 기준 게시글 다음 게시글들을 조회
+     */
+    private List<Post> findAfter(PostSort sort, CursorToken token, Pageable pageable) {
+        return switch (sort) {
+            case ID_DESC -> postRepository.findByIdLessThanOrderByIdDesc(token.id(), pageable);
+            case ID_ASC -> postRepository.findByIdGreaterThanOrderByIdAsc(token.id(), pageable);
+            case CREATED_AT_DESC -> postRepository.findByCreatedAtAndIdBefore(createdAtKey(token), token.id(), pageable);
+            case CREATED_AT_ASC -> postRepository.findByCreatedAtAndIdAfter(createdAtKey(token), token.id(), pageable);
+            case AUTHOR_ASC -> postRepository.findByAuthorAndIdAfter(requireKey(token), token.id(), pageable);
+            case AUTHOR_DESC -> postRepository.findByAuthorAndIdBefore(requireKey(token), token.id(), pageable);
+        };
+    }
+
+    private static LocalDateTime createdAtKey(CursorToken token) {
+        try {
+            return LocalDateTime.parse(requireKey(token));
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서 토큰입니다", e);
+        }
+    }
+
+    private static String requireKey(CursorToken token) {
+        if (token.key() == null) {
+            throw new InvalidCursorException("잘못된 커서 토큰입니다");
+        }
+        return token.key();
+    }
+
+    private CursorToken decodeCursor(PostListRequest request) {
+        return request.getCursor() == null || request.getCursor().isBlank()
+                ? null
+                : cursorCodec.decode(request.getCursor());
+    }
+
+    private String encode(PostSort sort, String key, Long id, CursorToken.Direction direction) {
+        return cursorCodec.encode(new CursorToken(sort, key, id, direction));
+    }
+
+    private static List<PostDto> toDtos(List<Post> posts) {
+        // Entity를 DTO로 변환
+        return posts.stream()
+                .map(PostDto::new)
+                .collect(Collectors.toList());
     }
 
     @Override
     public String getStrategyType() {
         return "infinite";
     }
-}
\ No newline at end of file
+}
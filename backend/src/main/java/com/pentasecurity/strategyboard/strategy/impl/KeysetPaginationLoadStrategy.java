@@ -0,0 +1,155 @@
+package com.pentasecurity.strategyboard.strategy.impl;
+
+import com.pentasecurity.strategyboard.archive.PostArchive;
+import com.pentasecurity.strategyboard.counter.PostCounter;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋(Seek) 기반 페이징 전략 구현체
+ * OFFSET 대신 (createdAt, id) 복합 키로 이전 페이지의 마지막 게시글 다음부터 탐색하여
+ * 페이지가 깊어져도 조회 비용이 일정하게 유지됨
+ *
+ * 탐색 대상은 DB에 남은 게시글뿐이라 목록은 보관 계층 경계(PostArchive.archivedUpTo())에서 끝남.
+ * 보관 세그먼트는 ID 순서로만 찾을 수 있어 (createdAt, id) 순서를 이어갈 수 없으므로,
+ * 보관 구간에 들어간 커서는 빈 페이지 대신 400으로 거부함 (보관 게시글까지 이어서 보려면 infinite 전략 사용)
+ */
+@Component
+public class KeysetPaginationLoadStrategy implements LoadStrategy {
+
+    private final PostRepository postRepository;
+    private final PostCounter postCounter;
+    private final PostArchive postArchive;
+
+    // 전체 DTO / 요약 DTO 각각의 조회 쿼리
+    private final KeysetQueries<PostDto> postQueries;
+    private final KeysetQueries<PostSummaryDto> summaryQueries;
+
+    public KeysetPaginationLoadStrategy(PostRepository postRepository, PostCounter postCounter,
+                                        PostArchive postArchive) {
+        this.postRepository = postRepository;
+        this.postCounter = postCounter;
+        this.postArchive = postArchive;
+        this.postQueries = new KeysetQueries<>(
+                pageable -> toDtos(postRepository.findAllByOrderByCreatedAtDescIdDesc(pageable)),
+                (createdAt, id, pageable) -> toDtos(postRepository.findByCreatedAtAndIdBefore(createdAt, id, pageable)),
+                PostDto::getId);
+        this.summaryQueries = new KeysetQueries<>(
+                postRepository::findSummariesByOrderByCreatedAtDescIdDesc,
+                postRepository::findSummariesByCreatedAtAndIdBefore,
+                PostSummaryDto::getId);
+    }
+
+    @Override
+    public PageResponse<PostDto> loadPosts(PostListRequest request) {
+        return load(request, postQueries);
+    }
+
+    @Override
+    public PageResponse<PostSummaryDto> loadSummaries(PostListRequest request) {
+        return load(request, summaryQueries);
+    }
+
+    private <T> PageResponse<T> load(PostListRequest request, KeysetQueries<T> queries) {
+        if (request.hasAuthor()) {
+            // (createdAt, id) 탐색 쿼리에는 작성자 조건이 없으므로 전체 게시글을 돌려주지 않도록 거부
+            throw new InvalidRequestException("키셋 페이징 전략은 작성자 필터를 지원하지 않습니다 (pagination 또는 infinite 사용)");
+        }
+        int size = request.getSize();
+        List<T> rows;
+
+        if (request.getLastId() != null) {
+            if (request.getLastId() <= postArchive.archivedUpTo()) {
+                // 커서 게시글이 보관 계층으로 옮겨져 DB에서 작성일을 찾을 수 없음
+                throw new InvalidRequestException("보관된 게시글(ID " + postArchive.archivedUpTo()
+                        + " 이하) 이후는 키셋 페이징으로 조회할 수 없습니다 (infinite 사용)");
+            }
+            // 이전 페이지 마지막 게시글(커서)의 작성일을 PK로 조회한 뒤 그 다음부터 탐색
+            Optional<LocalDateTime> anchorCreatedAt = postRepository.findCreatedAtById(request.getLastId());
+            if (anchorCreatedAt.isEmpty()) {
+                // 커서 게시글이 삭제된 경우: 더 이상 이어갈 수 없으므로 빈 페이지 반환
+                return toResponse(List.of(), request.getPage(), size, false, queries);
+            }
+            // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+            rows = queries.before().find(anchorCreatedAt.get(), request.getLastId(), PageRequest.of(0, size + 1));
+        } else if (request.getPage() == 0) {
+            // 첫 페이지: 커서 없이 최신순으로 size + 1개 조회
+            rows = queries.latest().apply(PageRequest.of(0, size + 1));
+        } else {
+            // 커서 없이 임의 페이지로 바로 이동한 경우에만 OFFSET 조회로 대체
+            rows = queries.latest().apply(PageRequest.of(request.getPage(), size));
+            boolean hasNext = (long) (request.getPage() + 1) * size < postCounter.get();
+            return toResponse(rows, request.getPage(), size, hasNext, queries);
+        }
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        return toResponse(rows, request.getPage(), size, hasNext, queries);
+    }
+
+    private <T> PageResponse<T> toResponse(List<T> rows, int page, int size, boolean hasNext,
+                                           KeysetQueries<T> queries) {
+        // 마지막 게시글의 ID를 다음 페이지 커서로 사용
+        Long nextCursor = hasNext && !rows.isEmpty()
+                ? queries.idOf().apply(rows.get(rows.size() - 1))
+                : null;
+
+        PageResponse<T> response = new PageResponse<>(rows, page, size, hasNext, nextCursor);
+
+        // 전체 건수는 카운터에서 조회 (COUNT 쿼리 없음)
+        long totalElements = postCounter.get();
+        response.setTotalElements(totalElements);
+        response.setTotalPages((int) Math.ceil((double) totalElements / size));
+        return response;
+    }
+
+    private static List<PostDto> toDtos(List<Post> posts) {
+        // Entity를 DTO로 변환
+        return posts.stream()
+                .map(PostDto::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getStrategyType() {
+        return "keyset-pagination";
+    }
+
+    /**
+     * (createdAt, id) 이전 게시글 탐색 쿼리
+     */
+    @FunctionalInterface
+    private interface SeekQuery<T> {
+        List<T> find(LocalDateTime createdAt, Long id, Pageable pageable);
+    }
+
+    /**
+     * 응답 형태별 키셋 조회 쿼리 묶음
+     *
+     * @param latest 최신순 첫 페이지 조회
+     * @param before 커서 이전 게시글 탐색
+     * @param idOf   행에서 다음 커서로 쓸 ID 추출
+     */
+    private record KeysetQueries<T>(Function<Pageable, List<T>> latest,
+                                    SeekQuery<T> before,
+                                    Function<T, Long> idOf) {
+    }
+}
@@ -1,15 +1,16 @@
 package com.pentasecurity.strategyboard.strategy.impl;
 
+import com.pentasecurity.strategyboard.cache.AuthorFeedCache;
+import com.pentasecurity.strategyboard.counter.PostCounter;
 import com.pentasecurity.strategyboard.dto.PostDto;
 import com.pentasecurity.strategyboard.dto.PostListRequest;
 import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
 import com.pentasecurity.strategyboard.entity.Post;
 import com.pentasecurity.strategyboard.repository.PostRepository;
 import com.pentasecurity.strategyboard.strategy.LoadStrategy;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,39 +19,76 @@ import java.util.stream.Collectors;
 /**
  * 페이징 기반 로딩 전략 구현체
  * 전통적인 페이지 번호 기반 페이징을 제공
+ *
+ * 작성자 필터가 있으면 작성자 게시글만 ID 최신순으로 페이징하며,
+ * 앞쪽 페이지와 전체 건수는 작성자 캐시에서, 그 밖의 페이지는 (author, id) 인덱스에서 조회
  */
 @Component
 public class PaginationLoadStrategy implements LoadStrategy {
 
     private final PostRepository postRepository;
+    private final PostCounter postCounter;
+    private final AuthorFeedCache authorFeedCache;
 
-    public PaginationLoadStrategy(PostRepository postRepository) {
+    public PaginationLoadStrategy(PostRepository postRepository, PostCounter postCounter,
+                                  AuthorFeedCache authorFeedCache) {
         this.postRepository = postRepository;
+        this.postCounter = postCounter;
+        this.authorFeedCache = authorFeedCache;
     }
 
     @Override
     public PageResponse<PostDto> loadPosts(PostListRequest request) {
-        // 페이징 정보 생성 (최신순 정렬)
-        Pageable pageable = PageRequest.of(
-                request.getPage(),
-                request.getSize(),
-                Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (request.hasAuthor()) {
+            return loadByAuthor(request);
+        }
 
-        // 데이터베이스에서 페이징 조회
-        Page<Post> postPage = postRepository.findAll(pageable);
+        // 페이징 정보 생성 (최신순 정렬은 쿼리 메서드에 포함)
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+
+        // 데이터베이스에서 페이지 목록만 조회 (COUNT 쿼리 없음)
+        List<Post> posts = postRepository.findAllByOrderByCreatedAtDescIdDesc(pageable);
 
         // Entity를 DTO로 변환
-        List<PostDto> postDtos = postPage.getContent()
-                .stream()
+        List<PostDto> postDtos = posts.stream()
                 .map(PostDto::new)
                 .collect(Collectors.toList());
 
-        // PageResponse 생성 (페이징 정보 포함)
+        return toResponse(postDtos, request);
+    }
+
+    @Override
+    public PageResponse<PostSummaryDto> loadSummaries(PostListRequest request) {
+        if (request.hasAuthor()) {
+            // 작성자 캐시 항목을 그대로 요약으로 변환
+            return loadByAuthor(request).map(PostSummaryDto::new);
+        }
+
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+
+        // 엔티티 대신 요약 프로젝션으로 바로 조회
+        return toResponse(postRepository.findSummariesByOrderByCreatedAtDescIdDesc(pageable), request);
+    }
+
+    private PageResponse<PostDto> loadByAuthor(PostListRequest request) {
+        String author = request.getAuthor();
+        List<PostDto> postDtos = authorFeedCache.page(author, request.getPage(), request.getSize())
+                .orElseGet(() -> postRepository.findByAuthorOrderByIdDesc(author,
+                                PageRequest.of(request.getPage(), request.getSize()))
+                        .stream()
+                        .map(PostDto::new)
+                        .collect(Collectors.toList()));
+
+        return new PageResponse<>(postDtos, request.getPage(), request.getSize(), authorFeedCache.count(author));
+    }
+
+    private <T> PageResponse<T> toResponse(List<T> content, PostListRequest request) {
+        // PageResponse 생성 (전체 건수는 카운터에서 조회)
         return new PageResponse<>(
-                postDtos,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements());
+                content,
+                request.getPage(),
+                request.getSize(),
+                postCounter.get());
     }
 
     @Override
@@ -0,0 +1,56 @@
+package com.pentasecurity.strategyboard.strategy.impl;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.ReactivePostRepository;
+import com.pentasecurity.strategyboard.strategy.ReactiveLoadStrategy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 논블로킹 무한스크롤 로딩 전략 구현체 (reactive 프로파일)
+ * lastId 커서(ID 최신순)만 지원하며, 한 건을 더 조회해 다음 페이지 존재 여부를 정확히 판단
+ */
+@Component
+@Profile("reactive")
+public class ReactiveInfiniteScrollLoadStrategy implements ReactiveLoadStrategy {
+
+    private final ReactivePostRepository reactivePostRepository;
+
+    public ReactiveInfiniteScrollLoadStrategy(ReactivePostRepository reactivePostRepository) {
+        this.reactivePostRepository = reactivePostRepository;
+    }
+
+    @Override
+    public Mono<PageResponse<PostDto>> loadPosts(PostListRequest request) {
+        if (request.hasAuthor() || request.getCursor() != null || request.getSort() != null) {
+            return Mono.error(new InvalidRequestException(
+                    "reactive 스택의 무한스크롤 전략은 lastId 커서만 지원합니다 (작성자 필터/정렬/커서 토큰 미지원)."));
+        }
+
+        int size = request.getSize();
+        Long lastId = request.getLastId();
+        return (lastId == null
+                ? reactivePostRepository.findLatest(size + 1)
+                : reactivePostRepository.findBefore(lastId, size + 1))
+                .collectList()
+                .map(posts -> toResponse(posts, size));
+    }
+
+    private static PageResponse<PostDto> toResponse(List<PostDto> posts, int size) {
+        boolean hasNext = posts.size() > size;
+        List<PostDto> content = hasNext ? posts.subList(0, size) : posts;
+        Long nextCursor = hasNext && !content.isEmpty() ? content.get(content.size() - 1).getId() : null;
+        return new PageResponse<>(content, hasNext, nextCursor);
+    }
+
+    @Override
+    public String getStrategyType() {
+        return "infinite";
+    }
+}
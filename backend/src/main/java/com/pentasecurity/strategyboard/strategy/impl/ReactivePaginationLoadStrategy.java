@@ -0,0 +1,45 @@
+package com.pentasecurity.strategyboard.strategy.impl;
+
+import com.pentasecurity.strategyboard.counter.PostCounter;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.ReactivePostRepository;
+import com.pentasecurity.strategyboard.strategy.ReactiveLoadStrategy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 페이징 로딩 전략 구현체 (reactive 프로파일)
+ * PaginationLoadStrategy와 같은 순서(작성일 최신순)로 페이지 목록만 R2DBC로 조회하고, 전체 건수는 메모리 카운터에서 읽음
+ */
+@Component
+@Profile("reactive")
+public class ReactivePaginationLoadStrategy implements ReactiveLoadStrategy {
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final PostCounter postCounter;
+
+    public ReactivePaginationLoadStrategy(ReactivePostRepository reactivePostRepository, PostCounter postCounter) {
+        this.reactivePostRepository = reactivePostRepository;
+        this.postCounter = postCounter;
+    }
+
+    @Override
+    public Mono<PageResponse<PostDto>> loadPosts(PostListRequest request) {
+        if (request.hasAuthor()) {
+            return Mono.error(new InvalidRequestException("reactive 스택의 페이징 전략은 작성자 필터를 지원하지 않습니다."));
+        }
+
+        return reactivePostRepository.findPage(request.getPage(), request.getSize())
+                .collectList()
+                .map(posts -> new PageResponse<>(posts, request.getPage(), request.getSize(), postCounter.get()));
+    }
+
+    @Override
+    public String getStrategyType() {
+        return "pagination";
+    }
+}
@@ -0,0 +1,136 @@
+package com.pentasecurity.strategyboard.strategy.impl;
+
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.search.PostTokenizer;
+import com.pentasecurity.strategyboard.search.SearchIndex;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 검색 기반 로딩 전략 구현체
+ * 제목/본문 역색인(SearchIndex)에서 검색어 토큰을 모두 포함하는 게시글 ID를 최신순으로 찾고,
+ * 해당 게시글만 PK로 조회한 뒤 실제로 검색어를 포함하는지 대조하여 반환 (lastId 커서로 이어서 조회)
+ *
+ * 색인 적재가 끝나기 전에는 ID 범위를 최신순으로 읽는 LIKE 검색으로 대체하며,
+ * 두 경로 모두 같은 대조 규칙(PostTokenizer.contains: 한글은 부분 문자열, 라틴 문자/숫자는 단어 전체)으로 결과를 정함
+ */
+@Component
+public class SearchLoadStrategy implements LoadStrategy {
+
+    // 대조 단계에서 걸러질 후보를 감안해 한 번에 더 넉넉히 조회하는 배수
+    private static final int CANDIDATE_MULTIPLIER = 2;
+
+    private final PostRepository postRepository;
+    private final SearchIndex searchIndex;
+
+    public SearchLoadStrategy(PostRepository postRepository, SearchIndex searchIndex) {
+        this.postRepository = postRepository;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public PageResponse<PostDto> loadPosts(PostListRequest request) {
+        if (request.hasAuthor()) {
+            throw new InvalidRequestException("검색 전략은 작성자 필터를 지원하지 않습니다");
+        }
+        if (request.getKeyword() == null || request.getKeyword().isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해 주세요");
+        }
+        List<String> terms = PostTokenizer.queryTerms(request.getKeyword());
+        if (terms.isEmpty()) {
+            throw new InvalidRequestException("검색어에 한글, 영문자 또는 숫자가 포함되어야 합니다");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개까지 수집
+        int wanted = request.getSize() + 1;
+        long beforeId = request.getLastId() != null ? request.getLastId() : Long.MAX_VALUE;
+        Set<String> tokens = PostTokenizer.queryTokens(request.getKeyword());
+
+        List<PostDto> matches = new ArrayList<>(wanted);
+        int batchSize = wanted * CANDIDATE_MULTIPLIER;
+        while (matches.size() < wanted) {
+            Optional<List<Long>> indexed = searchIndex.search(tokens, beforeId, batchSize);
+            List<Post> candidates = indexed.isPresent()
+                    ? findAllInOrder(indexed.get())
+                    : postRepository.findByKeywordAndIdLessThan(
+                            longestTerm(terms), beforeId, PageRequest.of(0, batchSize));
+
+            for (Post post : candidates) {
+                if (matches.size() < wanted && containsAll(post, terms)) {
+                    matches.add(new PostDto(post));
+                }
+            }
+
+            int scanned = indexed.map(List::size).orElse(candidates.size());
+            if (scanned < batchSize) {
+                break;
+            }
+            beforeId = indexed.map(ids -> ids.get(ids.size() - 1))
+                    .orElseGet(() -> candidates.get(candidates.size() - 1).getId());
+        }
+
+        boolean hasNext = matches.size() > request.getSize();
+        List<PostDto> content = hasNext ? matches.subList(0, request.getSize()) : matches;
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+
+        return new PageResponse<>(new ArrayList<>(content), hasNext, nextCursor);
+    }
+
+    /**
+     * 후보 ID를 PK로 한 번에 조회하고 후보 순서(최신순)로 정렬 (삭제된 게시글은 빠짐)
+     */
+    private List<Post> findAllInOrder(List<Long> ids) {
+        Map<Long, Post> postsById = new HashMap<>();
+        for (Post post : postRepository.findAllById(ids)) {
+            postsById.put(post.getId(), post);
+        }
+        List<Post> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Post post = postsById.get(id);
+            if (post != null) {
+                ordered.add(post);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 후보 중 실제로 모든 질의어를 제목이나 본문에 포함하는 게시글만 통과
+     * (색인의 2-gram 조합만 맞는 경우, LIKE 대체 검색에서 라틴 단어의 일부만 맞는 경우,
+     * 수정/삭제로 더 이상 포함하지 않는 경우를 걸러냄)
+     */
+    private static boolean containsAll(Post post, List<String> terms) {
+        for (String term : terms) {
+            if (!PostTokenizer.contains(post.getTitle(), term) && !PostTokenizer.contains(post.getContent(), term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * LIKE 대체 검색에 쓸 가장 긴 질의어 (질의어는 한글/라틴 문자/숫자만 포함하므로 LIKE 이스케이프가 필요 없음)
+     */
+    private static String longestTerm(List<String> terms) {
+        return terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+    }
+
+    @Override
+    public String getStrategyType() {
+        return "search";
+    }
+}
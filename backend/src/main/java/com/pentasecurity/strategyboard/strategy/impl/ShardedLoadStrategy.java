@@ -0,0 +1,117 @@
+package com.pentasecurity.strategyboard.strategy.impl;
+
+import com.pentasecurity.strategyboard.archive.PostArchive;
+import com.pentasecurity.strategyboard.counter.PostCounter;
+import com.pentasecurity.strategyboard.cursor.PostSort;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.shard.ShardedPostStore;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 샤드 병렬 조회(scatter-gather) 로딩 전략 구현체 (sharded 프로파일)
+ * 모든 샤드에 같은 조회를 동시에 보내고 샤드별 상위 결과를 ID 내림차순으로 병합
+ *
+ * lastId가 있으면 커서 응답(id < lastId), 없으면 page 번호 기반 페이징 응답이며
+ * 페이징 응답에도 마지막 게시글 ID를 nextCursor로 담아 이후 페이지는 커서로 이어갈 수 있게 함.
+ * 샤드 첫 적재가 끝나기 전에는 기본 DB에서 같은 순서로 조회
+ *
+ * 샤드에는 DB에 남은 게시글만 있으므로, 커서가 보관 구간(PostArchive.archivedUpTo() 이하)에 들어가면
+ * 보관 세그먼트에서 읽고 경계에 걸친 페이지는 샤드 결과 뒤를 보관 게시글로 채움 (infinite 전략과 같음).
+ * page 번호 응답은 DB에 남은 게시글만 대상이며, 보관 게시글은 커서로만 이어서 조회
+ */
+@Component
+@Profile("sharded")
+public class ShardedLoadStrategy implements LoadStrategy {
+
+    private final ShardedPostStore shardedPostStore;
+    private final PostRepository postRepository;
+    private final PostCounter postCounter;
+    private final PostArchive postArchive;
+
+    public ShardedLoadStrategy(ShardedPostStore shardedPostStore, PostRepository postRepository,
+                               PostCounter postCounter, PostArchive postArchive) {
+        this.shardedPostStore = shardedPostStore;
+        this.postRepository = postRepository;
+        this.postCounter = postCounter;
+        this.postArchive = postArchive;
+    }
+
+    @Override
+    public PageResponse<PostDto> loadPosts(PostListRequest request) {
+        if (request.hasAuthor()
+                || (request.getCursor() != null && !request.getCursor().isBlank())
+                || PostSort.from(request.getSort()) != PostSort.ID_DESC) {
+            throw new InvalidRequestException(
+                    "샤드 전략은 lastId 커서와 page 번호만 지원합니다 (작성자 필터/정렬/커서 토큰 미지원).");
+        }
+
+        int size = request.getSize();
+        if (request.getLastId() != null) {
+            // 한 건 더 조회해 다음 페이지가 있는지 확인
+            List<PostDto> rows = findBefore(request.getLastId(), size + 1);
+            boolean hasNext = rows.size() > size;
+            List<PostDto> content = hasNext ? rows.subList(0, size) : rows;
+            Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+            return new PageResponse<>(content, hasNext, nextCursor);
+        }
+
+        List<PostDto> content = findPage(request.getPage(), size);
+        long total = shardedPostStore.isReady() ? shardedPostStore.count() : postCounter.get();
+        PageResponse<PostDto> response = new PageResponse<>(content, request.getPage(), size, total);
+        if (response.isHasNext() && !content.isEmpty()) {
+            response.setNextCursor(content.get(content.size() - 1).getId());
+        }
+        return response;
+    }
+
+    private List<PostDto> findBefore(Long lastId, int limit) {
+        // 커서가 보관 구간에 들어가면 샤드/DB를 조회하지 않고 보관 계층에서만 읽음
+        long archivedUpTo = postArchive.archivedUpTo();
+        if (lastId <= archivedUpTo + 1) {
+            return postArchive.findBefore(lastId, limit);
+        }
+
+        List<PostDto> rows = shardedPostStore.isReady()
+                ? shardedPostStore.findBefore(lastId, limit)
+                : toDtos(postRepository.findByIdLessThanOrderByIdDesc(lastId, PageRequest.of(0, limit)));
+        if (rows.size() >= limit || archivedUpTo == 0) {
+            return rows;
+        }
+
+        // 샤드(보관 이후 구간)만으로 채우지 못했으면 나머지를 보관 계층에서 이어서 조회
+        long beforeId = rows.isEmpty() ? lastId : rows.get(rows.size() - 1).getId();
+        List<PostDto> filled = new ArrayList<>(rows);
+        filled.addAll(postArchive.findBefore(beforeId, limit - rows.size()));
+        return filled;
+    }
+
+    private List<PostDto> findPage(int page, int size) {
+        if (shardedPostStore.isReady()) {
+            return shardedPostStore.findPage(page, size);
+        }
+        return toDtos(postRepository.findAllByOrderByIdDesc(PageRequest.of(page, size)));
+    }
+
+    private static List<PostDto> toDtos(List<Post> posts) {
+        return posts.stream()
+                .map(PostDto::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getStrategyType() {
+        return "sharded";
+    }
+}
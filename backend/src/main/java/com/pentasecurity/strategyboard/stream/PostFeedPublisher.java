@@ -0,0 +1,440 @@
+package com.pentasecurity.strategyboard.stream;
+
+import com.pentasecurity.strategyboard.cache.HotPostRing;
+import com.pentasecurity.strategyboard.cache.PostJsonCache;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 게시글 실시간 피드 (Server-Sent Events)
+ * 커밋된 새 게시글을 한 번만 직렬화해 모든 구독자의 버퍼에 넣고, 소수의 전송 스레드가 버퍼를 비우며 전송
+ *
+ * 구독 연결은 서블릿 비동기 요청으로 유지되므로, 전송할 것이 없는 연결은 스레드를 점유하지 않음.
+ * 구독자별 버퍼는 크기가 고정되어 있어 느린 구독자는 오래된 게시글부터 버려지며, 버려진 게시글이 있으면 resync 이벤트로 목록 재조회를 안내.
+ * 전송을 기다리는 동안 쌓인 게시글은 posts 이벤트 하나로 묶어서 전송
+ *
+ * 소켓 쓰기는 블로킹이므로 실제 전송은 전송 스레드에 넘기고, 전송 스레드(dispatcher)는 send-timeout까지만 기다림.
+ * 기한을 넘긴 구독자는 목록에서 빼고 진행 중인 쓰기가 끝나는 대로 연결을 종료하므로,
+ * 소수의 느린 연결이 다른 구독자 전송을 서블릿 쓰기 타임아웃까지 막지 않음
+ */
+@Component
+public class PostFeedPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(PostFeedPublisher.class);
+
+    private final PostJsonCache postJsonCache;
+    private final HotPostRing hotPostRing;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor dispatcher;
+    private final ThreadPoolExecutor writers;
+
+    private final long timeoutMillis;
+    private final long sendTimeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter slow;
+
+    public PostFeedPublisher(PostJsonCache postJsonCache, HotPostRing hotPostRing, MeterRegistry meterRegistry,
+                             @Value("${board.stream.timeout:PT30M}") Duration timeout,
+                             @Value("${board.stream.buffer-size:64}") int bufferSize,
+                             @Value("${board.stream.max-subscribers:4096}") int maxSubscribers,
+                             @Value("${board.stream.dispatch-threads:4}") int dispatchThreads,
+                             @Value("${board.stream.send-timeout:PT2S}") Duration sendTimeout,
+                             @Value("${board.stream.send-threads:64}") int sendThreads) {
+        this.postJsonCache = postJsonCache;
+        this.hotPostRing = hotPostRing;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+
+        this.published = Counter.builder("board.stream.published")
+                .description("구독자에게 전파한 새 게시글 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("board.stream.dropped")
+                .description("구독자 버퍼가 가득 차 버린 게시글 수 (구독자별 합계)")
+                .register(meterRegistry);
+        this.slow = Counter.builder("board.stream.slow")
+                .description("전송 기한(send-timeout)을 넘겨 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("board.stream.subscribers", subscribers, Set::size)
+                .description("연결 중인 실시간 피드 구독자 수")
+                .register(meterRegistry);
+
+        // 구독자마다 대기 작업은 최대 1개이므로 큐 길이는 구독자 수를 넘지 않음
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("post-feed-dispatch-"));
+        // 기다리는 전송은 dispatcher 스레드 수만큼이고, 나머지는 기한을 넘겨 끝나기만 기다리는 쓰기
+        // (모두 차면 새 전송을 맡길 수 없으므로 그 구독자도 느린 구독자로 보고 끊음)
+        this.writers = new ThreadPoolExecutor(dispatchThreads, Math.max(sendThreads, dispatchThreads),
+                60L, TimeUnit.SECONDS, new SynchronousQueue<>(), daemonThreads("post-feed-send-"));
+    }
+
+    /**
+     * 피드 구독
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 수신 게시글 ID (있으면 그 이후 게시글을 먼저 전송)
+     * @return 구독 연결, 구독자 수 한도를 넘으면 empty
+     */
+    public Optional<SseEmitter> subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        return Optional.of(subscribe(new SseEmitter(timeoutMillis), lastEventId));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // 등록 이후에 버퍼를 읽으므로 그 사이 커밋된 게시글은 빠지지 않고, 중복은 ID로 합쳐짐
+        if (lastEventId != null) {
+            replay(subscriber, lastEventId);
+        }
+
+        // 연결 직후 주석을 보내 응답 헤더를 바로 내보냄
+        subscriber.requestHeartbeat();
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 커밋된 새 게시글을 모든 구독자에게 전파 (수정/삭제는 전파하지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            return;
+        }
+        published.increment();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        FeedItem item = toItem(event.getPost());
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(item)) {
+                dropped.increment();
+            }
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시/브라우저에서 끊기지 않도록 주기적으로 주석 이벤트 전송 (끊어진 연결도 이때 정리됨)
+     */
+    @Scheduled(fixedRateString = "${board.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.requestHeartbeat();
+            schedule(subscriber);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        writers.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * 최신 게시글 버퍼에서 lastEventId 이후 게시글을 구독자 버퍼에 채움
+     * 버퍼 범위를 벗어날 만큼 놓친 게시글이 많으면 resync 안내
+     */
+    private void replay(Subscriber subscriber, long lastEventId) {
+        List<PostDto> recent = hotPostRing.slice(null, bufferSize).orElse(null);
+        if (recent == null) {
+            subscriber.replay(List.of(), true);
+            return;
+        }
+
+        List<FeedItem> items = new ArrayList<>();
+        for (PostDto post : recent) {
+            if (post.getId() > lastEventId) {
+                items.add(toItem(post));
+            }
+        }
+        // 조회한 게시글이 모두 lastEventId 이후라면 그보다 앞선 게시글도 놓쳤을 수 있음
+        boolean gap = recent.size() == bufferSize && items.size() == recent.size();
+        subscriber.replay(items, gap);
+    }
+
+    private FeedItem toItem(PostDto post) {
+        return new FeedItem(post.getId(), new String(postJsonCache.fragment(post), StandardCharsets.UTF_8));
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.markScheduled()) {
+            try {
+                dispatcher.execute(() -> flush(subscriber));
+            } catch (RuntimeException e) {
+                // 종료 중
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 구독자 버퍼가 빌 때까지 전송 (구독자당 동시에 하나의 전송 작업만 실행됨)
+     * 전송마다 send-timeout까지만 기다리며, 기한을 넘기거나 실패하면 예약 상태로 남겨 다시 전송하지 않음
+     */
+    private void flush(Subscriber subscriber) {
+        Batch batch;
+        while ((batch = subscriber.drain()) != null) {
+            Batch sending = batch;
+            subscriber.beginSend();
+            Future<?> result;
+            try {
+                result = writers.submit(() -> write(subscriber, sending));
+            } catch (RejectedExecutionException e) {
+                // 기한을 넘긴 쓰기로 전송 스레드가 모두 찼거나 종료 중 (이 구독자는 진행 중인 쓰기가 없음)
+                subscribers.remove(subscriber);
+                slow.increment();
+                subscriber.emitter.complete();
+                return;
+            }
+
+            try {
+                result.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                subscribers.remove(subscriber);
+                slow.increment();
+                log.debug("실시간 피드 구독자 전송 기한 초과, 연결 종료");
+                // 쓰기가 방금 끝났다면 여기서, 아직 진행 중이면 쓰기가 끝날 때 전송 스레드가 종료
+                if (subscriber.expireSend()) {
+                    subscriber.emitter.complete();
+                }
+                return;
+            } catch (ExecutionException e) {
+                // 연결이 끊겼거나 이미 종료됨
+                subscribers.remove(subscriber);
+                log.debug("실시간 피드 구독자 연결 종료: {}", e.getCause().getMessage());
+                return;
+            } catch (InterruptedException e) {
+                // 종료 중
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 전송 스레드에서 실제 쓰기 수행 (기한을 넘긴 뒤 끝났다면 연결 종료)
+     */
+    private static Void write(Subscriber subscriber, Batch batch) throws IOException {
+        try {
+            send(subscriber.emitter, batch);
+        } finally {
+            if (subscriber.endSend()) {
+                subscriber.emitter.complete();
+            }
+        }
+        return null;
+    }
+
+    private static void send(SseEmitter emitter, Batch batch) throws IOException {
+        if (batch.missed > 0) {
+            emitter.send(SseEmitter.event()
+                    .name("resync")
+                    .data("{\"missed\":" + batch.missed + "}", MediaType.APPLICATION_JSON));
+        }
+
+        if (!batch.items.isEmpty()) {
+            StringJoiner json = new StringJoiner(",", "[", "]");
+            for (FeedItem item : batch.items) {
+                json.add(item.json);
+            }
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(batch.items.get(batch.items.size() - 1).id))
+                    .name("posts")
+                    .data(json.toString(), MediaType.APPLICATION_JSON));
+        } else if (batch.missed == 0 && batch.heartbeat) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 전파할 게시글 (JSON은 구독자 수와 관계없이 한 번만 만듦)
+     */
+    private record FeedItem(long id, String json) {
+    }
+
+    /**
+     * 한 번에 전송할 내용
+     *
+     * @param items     ID 오름차순 게시글
+     * @param missed    버퍼가 가득 차 버려진 게시글 수
+     * @param heartbeat 보낼 게시글이 없을 때 주석 전송 여부
+     */
+    private record Batch(List<FeedItem> items, long missed, boolean heartbeat) {
+    }
+
+    /**
+     * 구독 연결과 전송 대기 버퍼
+     * 버퍼와 예약 상태는 구독자 단위로 잠금
+     */
+    private static final class Subscriber {
+
+        private static final int IDLE = 0;
+        private static final int SENDING = 1;
+        private static final int EXPIRED = 2;
+
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<FeedItem> buffer = new ArrayDeque<>();
+        private long missed;
+        private boolean heartbeatDue;
+        private boolean scheduled;
+
+        // 진행 중인 쓰기 상태 (기한 초과 시 연결 종료를 dispatcher와 전송 스레드 중 한쪽만 하도록 사용)
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return 버퍼가 가득 차 가장 오래된 게시글을 버렸으면 false
+         */
+        synchronized boolean offer(FeedItem item) {
+            boolean full = buffer.size() >= capacity;
+            if (full) {
+                buffer.pollFirst();
+                missed++;
+            }
+            buffer.addLast(item);
+            return !full;
+        }
+
+        /**
+         * 재연결 시 놓친 게시글을 버퍼에 합침 (ID 기준 중복 제거, 용량을 넘으면 오래된 것부터 버림)
+         */
+        synchronized void replay(List<FeedItem> items, boolean gap) {
+            TreeMap<Long, FeedItem> merged = new TreeMap<>();
+            for (FeedItem item : items) {
+                merged.put(item.id, item);
+            }
+            for (FeedItem item : buffer) {
+                merged.put(item.id, item);
+            }
+            while (merged.size() > capacity) {
+                merged.pollFirstEntry();
+                missed++;
+            }
+            if (gap) {
+                missed++;
+            }
+            buffer.clear();
+            buffer.addAll(merged.values());
+        }
+
+        void beginSend() {
+            sendState.set(SENDING);
+        }
+
+        /**
+         * 쓰기 종료
+         *
+         * @return 기한을 넘겨 이미 포기된 쓰기였으면 true (호출자가 연결을 종료해야 함)
+         */
+        boolean endSend() {
+            return !sendState.compareAndSet(SENDING, IDLE);
+        }
+
+        /**
+         * 기한 초과로 쓰기를 포기
+         *
+         * @return 쓰기가 이미 끝나 있으면 true (호출자가 연결을 종료해야 함), 진행 중이면 false (쓰기가 끝날 때 종료)
+         */
+        boolean expireSend() {
+            return !sendState.compareAndSet(SENDING, EXPIRED);
+        }
+
+        synchronized void requestHeartbeat() {
+            heartbeatDue = true;
+        }
+
+        /**
+         * @return 새로 전송 작업을 예약해야 하면 true (이미 예약/실행 중이면 false)
+         */
+        synchronized boolean markScheduled() {
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        /**
+         * 버퍼의 내용을 모두 꺼냄, 보낼 것이 없으면 예약 상태를 풀고 null 반환
+         */
+        synchronized Batch drain() {
+            if (buffer.isEmpty() && missed == 0 && !heartbeatDue) {
+                scheduled = false;
+                return null;
+            }
+            Batch batch = new Batch(List.copyOf(buffer), missed, heartbeatDue);
+            buffer.clear();
+            missed = 0;
+            heartbeatDue = false;
+            return batch;
+        }
+    }
+}
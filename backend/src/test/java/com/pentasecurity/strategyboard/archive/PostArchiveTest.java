@@ -0,0 +1,180 @@
+package com.pentasecurity.strategyboard.archive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pentasecurity.strategyboard.config.PageResponseHttpMessageConverter;
+import com.pentasecurity.strategyboard.counter.PostCounter;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.service.PostService;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import com.pentasecurity.strategyboard.strategy.LoadStrategyFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        // 다른 테스트 컨텍스트와 DB를 공유하지 않도록 별도 인메모리 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:archive-test",
+        "board.archive.enabled=true",
+        "board.archive.directory=${java.io.tmpdir}/strategy-board-archive-test-${random.uuid}",
+        // 여러 세그먼트와 희소 색인 블록을 거치도록 작게 설정
+        "board.archive.segment-bytes=2048",
+        "board.archive.index-interval=4",
+        "board.archive.interval=PT1H"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class PostArchiveTest {
+
+    @Autowired
+    private PostArchiver postArchiver;
+
+    @Autowired
+    private PostArchive postArchive;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private LoadStrategyFactory strategyFactory;
+
+    @Autowired
+    private PageResponseHttpMessageConverter converter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostCounter postCounter;
+
+    @Test
+    public void testOldPostsMoveToArchiveAndStayReadable() throws Exception {
+        // Given: 앞쪽 게시글만 보관 기준보다 오래됨
+        List<Post> created = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            created.add(postRepository.save(new Post("보관 테스트 " + i, "보관 내용 " + i, "테스터")));
+        }
+        long boundary = created.get(24).getId();
+        jdbcTemplate.update("UPDATE posts SET created_at = ? WHERE id <= ?", LocalDateTime.now().minusDays(90), boundary);
+        List<Long> expected = postRepository.findAllByOrderByIdDesc(PageRequest.of(0, 1000)).stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        long oldCount = expected.stream().filter(id -> id <= boundary).count();
+
+        // When
+        long moved = postArchiver.archiveOldPosts();
+
+        // Then: 오래된 구간만 DB에서 빠지고 보관 계층으로 이동
+        assertEquals(oldCount, moved);
+        assertEquals(boundary, postArchive.archivedUpTo());
+        assertEquals(expected.size() - oldCount, postRepository.count());
+        assertFalse(postRepository.existsById(boundary));
+
+        // Then: 카운터는 DB를 다시 세지 않고 삭제된 행 수만큼 차감됨
+        assertEquals(postRepository.count(), postCounter.get());
+
+        // Then: 상세 조회는 보관 계층에서
+        assertEquals("보관 테스트 3", postService.getPost(created.get(3).getId()).getTitle());
+
+        // Then: 무한스크롤은 DB 구간 다음 보관 구간으로 빠짐/중복 없이 이어짐
+        LoadStrategy infinite = strategyFactory.getStrategy("infinite");
+        List<Long> scrolled = new ArrayList<>();
+        Long lastId = null;
+        do {
+            PostListRequest request = new PostListRequest(0, 7, "infinite");
+            request.setLastId(lastId);
+            PageResponse<PostDto> response = infinite.loadPosts(request);
+            scrolled.addAll(response.getContent().stream().map(PostDto::getId).toList());
+            lastId = response.getNextCursor();
+        } while (lastId != null);
+        assertEquals(expected, scrolled);
+
+        // Then: 요약 응답도 보관 구간을 조회
+        PostListRequest summaryRequest = new PostListRequest(0, 5, "infinite");
+        summaryRequest.setLastId(boundary + 1);
+        PageResponse<PostSummaryDto> summaries = infinite.loadSummaries(summaryRequest);
+        assertEquals(boundary, summaries.getContent().get(0).getId());
+
+        // Then: 키셋 탐색은 DB 게시글만 대상이므로 보관 구간 커서는 거부
+        PostListRequest keysetRequest = new PostListRequest(1, 5, "keyset-pagination");
+        keysetRequest.setLastId(boundary);
+        assertThrows(InvalidRequestException.class,
+                () -> strategyFactory.getStrategy("keyset-pagination").loadPosts(keysetRequest));
+
+        // Then: 목록 응답은 세그먼트의 JSON을 그대로 출력하며 Jackson 직렬화 결과와 같음
+        PostListRequest archivedRequest = new PostListRequest(0, 5, "infinite");
+        archivedRequest.setLastId(boundary + 1);
+        PageResponse<PostDto> archived = infinite.loadPosts(archivedRequest);
+        assertTrue(archived.getContent().get(0).encodedJson().isPresent());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        converter.write(archived, out);
+        JsonNode written = objectMapper.readTree(out.toByteArray());
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(archived.getContent())), written.get("content"));
+
+        // Then: 보관 게시글도 일반 PostDto처럼 바꿀 수 있으며, 바꾼 뒤에는 원본 JSON 대신 바뀐 필드로 출력
+        PostDto changed = archived.getContent().get(0);
+        changed.setTitle("응답용 제목");
+        assertTrue(changed.encodedJson().isEmpty());
+        out.reset();
+        converter.write(archived, out);
+        assertEquals("응답용 제목", objectMapper.readTree(out.toByteArray()).get("content").get(0).get("title").asText());
+
+        // When: 같은 디렉터리를 다시 열기 (세그먼트를 훑어 희소 색인 재구성)
+        PostArchive reopened = new PostArchive(objectMapper, new SimpleMeterRegistry(), true, postArchive.directory(),
+                2048, 4, false, "");
+        try {
+            // Then
+            assertEquals(boundary, reopened.archivedUpTo());
+            assertEquals(oldCount, reopened.count());
+            assertEquals("보관 테스트 11", reopened.find(created.get(11).getId()).orElseThrow().getTitle());
+            assertEquals(expected.subList(expected.size() - (int) oldCount, expected.size()),
+                    reopened.findBefore(boundary + 1, 1000).stream().map(PostDto::getId).toList());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    public void testResetOnStartIsRefusedForPersistentDatabase() throws Exception {
+        // Given
+        List<Path> before;
+        try (Stream<Path> files = Files.list(postArchive.directory())) {
+            before = files.sorted().toList();
+        }
+
+        // When / Then: 파일 DB에서는 세그먼트를 지우지 않고 기동 거부
+        assertThrows(IllegalStateException.class, () -> new PostArchive(objectMapper, new SimpleMeterRegistry(),
+                true, postArchive.directory(), 2048, 4, true, "jdbc:h2:file:./data/board"));
+        try (Stream<Path> files = Files.list(postArchive.directory())) {
+            assertEquals(before, files.sorted().toList());
+        }
+    }
+}
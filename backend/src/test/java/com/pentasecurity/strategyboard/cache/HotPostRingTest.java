@@ -0,0 +1,66 @@
+package com.pentasecurity.strategyboard.cache;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class HotPostRingTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    public void testSliceServesOnlyRequestsInsideRing() {
+        // Given: 최신 5개만 보관하는 버퍼
+        HotPostRing ring = new HotPostRing(postRepository, 5);
+        ring.reload();
+        List<Post> newest = postRepository.findAllByOrderByIdDesc(PageRequest.of(0, 6));
+
+        // When
+        Optional<List<PostDto>> firstPage = ring.slice(null, 5);
+        Optional<List<PostDto>> tooLarge = ring.slice(null, 6);
+        Optional<List<PostDto>> shallowCursor = ring.slice(newest.get(1).getId(), 3);
+        Optional<List<PostDto>> deepCursor = ring.slice(newest.get(3).getId(), 3);
+
+        // Then
+        assertTrue(firstPage.isPresent());
+        assertEquals(newest.get(0).getId(), firstPage.get().get(0).getId());
+        assertTrue(tooLarge.isEmpty());
+        assertTrue(shallowCursor.isPresent());
+        assertEquals(newest.get(2).getId(), shallowCursor.get().get(0).getId());
+        assertTrue(deepCursor.isEmpty());
+    }
+
+    @Test
+    public void testCreatedPostPushesOutOldest() {
+        // Given
+        HotPostRing ring = new HotPostRing(postRepository, 3);
+        ring.reload();
+        PostDto oldest = ring.slice(null, 3).orElseThrow().get(2);
+
+        PostDto created = new PostDto();
+        created.setId(Long.MAX_VALUE);
+        created.setTitle("새 게시글");
+
+        // When
+        ring.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, created));
+        List<PostDto> head = ring.slice(null, 3).orElseThrow();
+
+        // Then
+        assertEquals(Long.MAX_VALUE, head.get(0).getId());
+        assertTrue(head.stream().noneMatch(post -> post.getId().equals(oldest.getId())));
+    }
+}
@@ -0,0 +1,60 @@
+package com.pentasecurity.strategyboard.cache;
+
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.PostNotFoundException;
+import com.pentasecurity.strategyboard.metrics.SqlStatementCounter;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostDetailCacheTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void testRepeatedReadsSkipDatabaseUntilPostChanges() {
+        // Given
+        Post post = postRepository.save(new Post("상세 캐시 테스트", "상세 캐시 내용", "테스터"));
+        postService.getPost(post.getId());
+
+        // When: 같은 게시글을 다시 조회
+        long before = sqlStatementCounter.current();
+        postService.getPost(post.getId());
+        postService.getPost(post.getId());
+
+        // Then: DB 조회 없음, 적중률 지표 노출
+        assertEquals(before, sqlStatementCounter.current());
+        assertTrue(meterRegistry.get("board.post.detail.hit.ratio").gauge().value() > 0);
+
+        // When: 수정 후 조회
+        post.setTitle("상세 캐시 수정됨");
+        postRepository.save(post);
+
+        // Then: 수정된 내용
+        assertEquals("상세 캐시 수정됨", postService.getPost(post.getId()).getTitle());
+
+        // When: 삭제 후 조회
+        postRepository.deleteById(post.getId());
+
+        // Then
+        assertThrows(PostNotFoundException.class, () -> postService.getPost(post.getId()));
+    }
+}
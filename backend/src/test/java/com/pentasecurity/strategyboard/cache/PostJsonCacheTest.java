@@ -0,0 +1,104 @@
+package com.pentasecurity.strategyboard.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pentasecurity.strategyboard.config.PageResponseHttpMessageConverter;
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostJsonCacheTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostJsonCache postJsonCache;
+
+    @Autowired
+    private PageResponseHttpMessageConverter converter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    public void testSplicedPageMatchesJacksonOutput() throws Exception {
+        // Given: 게시글 페이지와 요약 페이지 (커서 토큰 포함/미포함)
+        List<PostDto> posts = postRepository.findAllByOrderByIdDesc(PageRequest.of(0, 20)).stream()
+                .map(PostDto::new)
+                .collect(Collectors.toList());
+        PageResponse<PostDto> page = new PageResponse<>(posts, 0, 20, 1234);
+        page.setNextCursor(posts.get(posts.size() - 1).getId());
+        page.setNextToken("next-token");
+        PageResponse<PostSummaryDto> summaries = page.map(PostSummaryDto::new);
+        summaries.setPrevToken("prev-token");
+
+        for (PageResponse<?> response : List.of(page, page, summaries)) {
+            // When: 두 번째 게시글 페이지는 캐시된 조각으로 작성
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            converter.write(response, out);
+
+            // Then: Jackson 직렬화 결과와 같은 JSON
+            assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(response)),
+                    objectMapper.readTree(out.toByteArray()));
+        }
+    }
+
+    @Test
+    public void testUpdatedPostIsReEncoded() throws Exception {
+        // Given: 캐시에 들어간 게시글
+        Post post = postRepository.save(new Post("JSON 캐시 테스트", "JSON 캐시 내용", "테스터"));
+        byte[] before = postJsonCache.fragment(new PostDto(post));
+        assertSame(before, postJsonCache.fragment(new PostDto(post)));
+
+        try {
+            // When: 게시글 수정 (버전 증가)
+            post.setTitle("JSON 캐시 수정됨");
+            Post updated = postRepository.save(post);
+
+            // Then: 수정된 내용으로 다시 직렬화
+            String json = new String(postJsonCache.fragment(new PostDto(updated)), StandardCharsets.UTF_8);
+            assertEquals(post.getVersion() + 1, updated.getVersion());
+            assertTrue(json.contains("JSON 캐시 수정됨"));
+            // 버전은 캐시 키로만 쓰고 응답 JSON에는 노출하지 않음
+            assertFalse(objectMapper.readTree(json).has("version"));
+        } finally {
+            postRepository.deleteById(post.getId());
+        }
+    }
+
+    @Test
+    public void testPageConverterRegisteredOnceAheadOfJackson() {
+        // When
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+
+        // Then: 페이지 응답 작성기는 한 번만 등록되고, PageResponse를 JSON으로 쓸 수 있는 변환기 중 가장 먼저 선택됨
+        assertEquals(1, converters.stream().filter(c -> c == converter).count());
+        HttpMessageConverter<?> selected = converters.stream()
+                .filter(c -> c.canWrite(PageResponse.class, MediaType.APPLICATION_JSON))
+                .findFirst()
+                .orElseThrow();
+        assertSame(converter, selected);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pentasecurity.strategyboard.config;
+
+import com.pentasecurity.strategyboard.counter.PostCounter;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        // 다른 테스트 컨텍스트와 DB를 공유하지 않도록 별도 인메모리 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:bulk-seed-test",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "board.seed.rows=20000",
+        "board.seed.authors=100",
+        "board.seed.threads=4",
+        "board.seed.batch-size=500",
+        "board.seed.content-max-length=500"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class BulkPostSeederTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCounter postCounter;
+
+    @Test
+    public void testSeededPostsKeepIdAndCreatedAtOrderAligned() {
+        // Then: 설정한 건수만큼 적재되고 카운터도 재동기화됨
+        assertEquals(20000, postRepository.count());
+        assertEquals(20000, postCounter.get());
+
+        // 작성일 순서와 ID 순서가 일치 (키셋/커서 페이징 결과가 동일)
+        List<Long> byCreatedAt = postRepository.findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(3, 500))
+                .stream().map(Post::getId).toList();
+        List<Long> byId = postRepository.findAllByOrderByIdDesc(PageRequest.of(3, 500))
+                .stream().map(Post::getId).toList();
+        assertEquals(byId, byCreatedAt);
+    }
+
+    @Test
+    public void testSeededPostsDoNotCollideWithApplicationInserts() {
+        // When: 시드 이후 JPA로 게시글 등록
+        Post saved = postRepository.save(new Post("시드 이후 게시글", "내용", "작성자"));
+
+        // Then: 시퀀스 블록을 공유하므로 기존 ID와 겹치지 않고 가장 최신
+        assertEquals(saved.getId(), postRepository.findAllByOrderByIdDesc(PageRequest.of(0, 1)).get(0).getId());
+        postRepository.delete(saved);
+    }
+}
@@ -0,0 +1,237 @@
+package com.pentasecurity.strategyboard.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testExportStreamsEveryPostAsNdjson() throws Exception {
+        // When
+        MvcResult started = mockMvc.perform(get("/api/posts/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: 내보내기 응답에만 시간 제한 없음(-1)이 적용됨
+        assertEquals(-1L, started.getRequest().getAsyncContext().getTimeout());
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        // Then: 한 줄에 게시글 하나씩, ID 오름차순
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(postRepository.count(), lines.length);
+
+        long previousId = 0;
+        for (String line : lines) {
+            PostDto post = objectMapper.readValue(line, PostDto.class);
+            assertTrue(post.getId() > previousId);
+            previousId = post.getId();
+        }
+    }
+
+    @Test
+    public void testBatchCreate() throws Exception {
+        // Given
+        String body = """
+                {"posts": [
+                  {"title": "일괄 등록 1", "content": "내용 1", "author": "작성자"},
+                  {"title": "일괄 등록 2", "content": "내용 2", "author": "작성자"}
+                ]}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/posts/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2));
+    }
+
+    @Test
+    public void testBatchCreateRejectsInvalidPost() throws Exception {
+        // Given: 제목 누락
+        String body = """
+                {"posts": [{"title": "", "content": "내용", "author": "작성자"}]}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/posts/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("VALIDATION_FAILED"));
+    }
+
+    @Test
+    public void testInvalidCursorTokenIsRejected() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/posts").param("strategy", "infinite").param("cursor", "not-a-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    public void testInvalidParameterIsNotReportedAsInvalidStrategy() throws Exception {
+        // When & Then: 전략은 올바르고 검색어만 없음
+        mockMvc.perform(get("/api/posts").param("strategy", "search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_PARAMETER"));
+
+        // When & Then: 지원하지 않는 전략
+        mockMvc.perform(get("/api/posts").param("strategy", "unknown"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_STRATEGY"));
+    }
+
+    @Test
+    public void testUnchangedListAndDetailAnswerNotModified() throws Exception {
+        // Given: 목록과 상세의 현재 ETag
+        Post post = postRepository.save(new Post("ETag 테스트", "ETag 테스트 내용", "테스터"));
+        String listTag = mockMvc.perform(get("/api/posts").param("strategy", "infinite"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String postTag = mockMvc.perform(get("/api/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then: 바뀐 게시글이 없으면 본문 없이 304
+        mockMvc.perform(get("/api/posts").param("strategy", "infinite").header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/posts/{id}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, postTag))
+                .andExpect(status().isNotModified());
+
+        // When: 게시글 삭제
+        postRepository.delete(post);
+
+        // Then: 목록은 새 태그로 200, 상세는 404
+        mockMvc.perform(get("/api/posts").param("strategy", "infinite").header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(listTag)));
+        mockMvc.perform(get("/api/posts/{id}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, postTag))
+                .andExpect(status().isNotFound());
+
+        // Then: "*"는 없는 게시글을 304로 응답하지 않음
+        mockMvc.perform(get("/api/posts/{id}", Long.MAX_VALUE / 10).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/posts").param("strategy", "infinite").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testMultiGetKeepsRequestOrderAndReportsMissingIds() throws Exception {
+        // Given: 존재하는 게시글 2개와 없는 ID
+        List<Post> posts = postRepository.findAllByOrderByIdDesc(PageRequest.of(0, 2));
+        long first = posts.get(0).getId();
+        long second = posts.get(1).getId();
+        long missing = first + 1_000_000;
+
+        // When & Then: 요청 순서 유지, 중복 제거, 없는 ID는 예외 없이 별도 표시
+        mockMvc.perform(get("/api/posts/batch").param("ids", second + "," + missing + "," + first + "," + second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(2))
+                .andExpect(jsonPath("$.posts[0].id").value(second))
+                .andExpect(jsonPath("$.posts[1].id").value(first))
+                .andExpect(jsonPath("$.missingIds[0]").value(missing));
+
+        // When & Then: 긴 ID 목록은 POST 본문으로 (IN 조회 묶음 크기보다 많은 ID)
+        List<Long> ids = new ArrayList<>();
+        for (long id = missing; id < missing + 700; id++) {
+            ids.add(id);
+        }
+        ids.add(first);
+        mockMvc.perform(post("/api/posts/batch/query").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("ids", ids))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].id").value(first))
+                .andExpect(jsonPath("$.missingIds.length()").value(700));
+
+        // When & Then: 빈 목록은 검증 실패
+        mockMvc.perform(get("/api/posts/batch"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("VALIDATION_FAILED"));
+    }
+
+    @Test
+    public void testStreamReplaysMissedPostsAndPushesNewOnes() throws Exception {
+        // Given: 구독 전에 등록된 게시글
+        Post missed = postRepository.save(new Post("피드 재연결 테스트", "놓친 게시글", "테스터"));
+        Post created = null;
+
+        try {
+            // When: 그 직전 이벤트 ID로 재연결
+            MvcResult result = mockMvc.perform(get("/api/posts/stream")
+                            .header("Last-Event-ID", missed.getId() - 1))
+                    .andExpect(request().asyncStarted())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                    .andReturn();
+
+            // Then: 놓친 게시글을 먼저 받음
+            awaitContent(result, "놓친 게시글");
+
+            // When: 새 게시글 등록
+            created = postRepository.save(new Post("피드 새 게시글 테스트", "실시간 게시글", "테스터"));
+
+            // Then: 같은 연결로 posts 이벤트 수신 (이벤트 ID는 게시글 ID)
+            String events = awaitContent(result, "실시간 게시글");
+            assertTrue(events.contains("event:posts"));
+            assertTrue(events.contains("id:" + created.getId()));
+        } finally {
+            postRepository.deleteById(missed.getId());
+            if (created != null) {
+                postRepository.deleteById(created.getId());
+            }
+        }
+    }
+
+    /**
+     * 비동기 응답 본문에 text가 나타날 때까지 대기
+     */
+    private static String awaitContent(MvcResult result, String text) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = "";
+        while (System.currentTimeMillis() < deadline) {
+            content = new String(result.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+            if (content.contains(text)) {
+                return content;
+            }
+            Thread.sleep(20);
+        }
+        return fail("피드에 " + text + " 없음: " + content);
+    }
+}
@@ -0,0 +1,100 @@
+package com.pentasecurity.strategyboard.controller;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * reactive 프로파일 (WebFlux + R2DBC) 조회 API
+ */
+@SpringBootTest(properties = {
+        // 다른 테스트 컨텍스트와 DB를 공유하지 않도록 별도 인메모리 DB 사용 (JDBC/R2DBC가 같은 DB를 봐야 함)
+        "spring.datasource.url=jdbc:h2:mem:reactive-test",
+        "board.reactive.url=r2dbc:h2:mem:///reactive-test",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@AutoConfigureWebTestClient
+@ActiveProfiles({ "test", "reactive" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ReactivePostControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInfiniteScrollWalksEveryPostOnce() {
+        // Given
+        long total = postRepository.count();
+        Set<Object> seen = new HashSet<>();
+        Object lastId = null;
+
+        // When: nextCursor를 따라 끝까지 조회
+        for (int requests = 0; requests <= total; requests++) {
+            String uri = "/api/posts?strategy=infinite&size=7" + (lastId != null ? "&lastId=" + lastId : "");
+            Map<String, Object> page = webTestClient.get().uri(uri)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(Map.class)
+                    .returnResult()
+                    .getResponseBody();
+
+            for (Map<String, Object> post : (List<Map<String, Object>>) page.get("content")) {
+                assertTrue(seen.add(post.get("id")));
+            }
+            if (!(Boolean) page.get("hasNext")) {
+                break;
+            }
+            lastId = page.get("nextCursor");
+        }
+
+        // Then: 모든 게시글을 한 번씩
+        assertEquals(total, seen.size());
+    }
+
+    @Test
+    public void testExportStreamsEveryPostAndRejectsUnsupportedFilter() {
+        // When
+        List<PostDto> exported = webTestClient.get().uri("/api/posts/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(PostDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then: ID 오름차순 전체 게시글
+        assertEquals(postRepository.count(), exported.size());
+        for (int i = 1; i < exported.size(); i++) {
+            assertTrue(exported.get(i).getId() > exported.get(i - 1).getId());
+        }
+
+        // When & Then: 지원하지 않는 조건은 서블릿 스택과 같은 오류 응답
+        webTestClient.get().uri("/api/posts?strategy=pagination&author=개발자1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("INVALID_PARAMETER");
+        webTestClient.get().uri("/api/posts/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,216 @@
+package com.pentasecurity.strategyboard.datasource;
+
+import com.pentasecurity.strategyboard.config.ReplicaProperties;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.service.PostService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 읽기 복제본 라우팅
+ * in-sync 복제본은 기본 DB와 같은 메모리 DB, stale 복제본은 하트비트가 없는 별도 메모리 DB
+ * (read-your-writes 확인에서는 기본 DB의 스냅샷을 담아 커밋을 따라잡지 못한 복제본 역할)
+ */
+@SpringBootTest(properties = {
+        // 다른 테스트 컨텍스트와 DB를 공유하지 않도록 별도 인메모리 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:replica-primary",
+        "spring.jpa.open-in-view=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "board.datasource.selection=least-loaded",
+        "board.datasource.max-lag=PT2S",
+        // 측정은 테스트에서 직접 호출
+        "board.datasource.lag-check-interval=PT1H",
+        "board.datasource.replicas[0].name=in-sync",
+        "board.datasource.replicas[0].url=jdbc:h2:mem:replica-primary",
+        "board.datasource.replicas[1].name=stale",
+        "board.datasource.replicas[1].url=jdbc:h2:mem:replica-stale"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Test
+    public void testReadsGoToReplicasWithinLagAndWritesStayOnPrimary() throws Exception {
+        // Given: 하트비트가 없는 stale 복제본은 제외되고, in-sync 복제본은 기동 중 쓰기 이후의 하트비트를 읽은 상태
+        writeStaleBeat(0);
+        replicaRoutingDataSource.checkLag();
+        replicaRoutingDataSource.checkLag();
+        assertEquals(true, replicaRoutingDataSource.status().get("in-sync").get("healthy"));
+        assertEquals(false, replicaRoutingDataSource.status().get("stale").get("healthy"));
+
+        // When: 목록 전략/상세 조회 (캐시에 있는 조회는 커넥션을 얻지 않으므로 리포지토리 조회 두 번만 셈)
+        double before = reads("in-sync");
+        double staleBefore = reads("stale");
+        double primaryBefore = reads("primary");
+        postService.getPosts(new PostListRequest(3, 10, "pagination"));
+        postRepository.count();
+        postService.getPost(postRepository.findAllByOrderByIdDesc(PageRequest.of(0, 1)).get(0).getId());
+
+        // Then: 지연 내 복제본에서만 조회
+        assertTrue(reads("in-sync") >= before + 2);
+        assertEquals(staleBefore, reads("stale"));
+        assertEquals(primaryBefore, reads("primary"));
+
+        // When: 쓰기
+        double readsBeforeWrite = reads("in-sync") + reads("stale") + reads("primary");
+        Post saved = postRepository.save(new Post("복제본 라우팅 테스트", "쓰기는 기본 DB", "테스터"));
+
+        // Then: 읽기 전용 커넥션을 쓰지 않음
+        assertEquals(readsBeforeWrite, reads("in-sync") + reads("stale") + reads("primary"));
+
+        // When: stale 복제본이 하트비트를 따라잡음 (조회 대상 여부만 확인하므로 게시글 테이블은 없음)
+        writeStaleBeat(System.currentTimeMillis() + 60_000);
+        replicaRoutingDataSource.checkLag();
+
+        // Then: 두 복제본 모두 조회 대상
+        assertEquals(true, replicaRoutingDataSource.status().get("stale").get("healthy"));
+
+        // When: stale 복제본이 다시 뒤처짐
+        writeStaleBeat(0);
+        replicaRoutingDataSource.checkLag();
+
+        // Then: 지연 초과로 제외
+        assertEquals(false, replicaRoutingDataSource.status().get("stale").get("healthy"));
+        assertTrue((Long) replicaRoutingDataSource.status().get("stale").get("lagMillis") > 2000);
+
+        postRepository.deleteById(saved.getId());
+    }
+
+    @Test
+    public void testDetailReadAfterUpdateSeesNewVersion() throws Exception {
+        // Given: 게시글을 캐시에 적재한 뒤, 그 시점의 기본 DB 스냅샷을 stale 복제본에 복사 (하트비트까지 따라잡은 상태로 보임)
+        Post post = postRepository.save(new Post("수정 전 제목", "복제 지연 테스트", "테스터"));
+        replicaRoutingDataSource.checkLag();
+        replicaRoutingDataSource.checkLag();
+        assertEquals(0L, postService.getPost(post.getId()).getVersion());
+        copyPrimaryToStale();
+        replicaRoutingDataSource.checkLag();
+        assertEquals(true, replicaRoutingDataSource.status().get("stale").get("healthy"));
+
+        // When: 수정 커밋 직후 상세/리포지토리 조회 (stale 복제본에는 수정 전 행만 있음)
+        double primaryBefore = reads("primary");
+        Post loaded = postRepository.findById(post.getId()).orElseThrow();
+        loaded.setTitle("수정 후 제목");
+        postRepository.save(loaded);
+
+        // Then: 복제본이 커밋을 따라잡기 전에는 기본 DataSource에서 읽어 새 버전을 반환
+        PostDto detail = postService.getPost(post.getId());
+        assertEquals(1L, detail.getVersion());
+        assertEquals("수정 후 제목", detail.getTitle());
+        for (int i = 0; i < 4; i++) {
+            assertEquals("수정 후 제목", postRepository.findById(post.getId()).orElseThrow().getTitle());
+        }
+        assertTrue(reads("primary") > primaryBefore);
+
+        // When: 하트비트 측정 두 주기 (stale 복제본은 스냅샷 이후 하트비트를 읽지 못해 지연 초과로 제외됨)
+        writeStaleBeat(0);
+        replicaRoutingDataSource.checkLag();
+        replicaRoutingDataSource.checkLag();
+
+        // Then: 커밋을 따라잡은 in-sync 복제본으로 다시 조회
+        double inSyncBefore = reads("in-sync");
+        postRepository.count();
+        assertEquals(inSyncBefore + 1, reads("in-sync"));
+
+        postRepository.deleteById(post.getId());
+    }
+
+    @Test
+    public void testUnreachableReplicaFallsBackToPrimary() throws Exception {
+        // Given: 접속할 수 없는 복제본 하나만 설정
+        ReplicaProperties.Replica unreachable = new ReplicaProperties.Replica();
+        unreachable.setName("unreachable");
+        unreachable.setUrl("jdbc:h2:tcp://127.0.0.1:1/unreachable");
+        unreachable.setConnectionTimeout(Duration.ofMillis(250));
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setReplicas(List.of(unreachable));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, properties, registry);
+
+        try {
+            // When: 기동 (하트비트 준비 및 첫 측정)
+            routing.afterPropertiesSet();
+
+            // Then: 기동은 성공하고 복제본은 제외됨
+            assertEquals(false, routing.status().get("unreachable").get("healthy"));
+
+            // When: 읽기 전용 커넥션 획득
+            try (Connection connection = routing.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.executeQuery("SELECT 1").close();
+            }
+
+            // Then: 기본 DataSource로 조회
+            assertEquals(1, registry.get("board.datasource.reads").tag("target", "primary").counter().count());
+            assertEquals(0, registry.get("board.datasource.reads").tag("target", "unreachable").counter().count());
+        } finally {
+            routing.destroy();
+        }
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("board.datasource.reads").tag("target", target).counter().count();
+    }
+
+    /**
+     * 기본 DB 전체(스키마, 게시글, 하트비트)를 stale 복제본 DB로 복사
+     */
+    private static void copyPrimaryToStale() throws Exception {
+        Path script = Files.createTempFile("replica-snapshot", ".sql");
+        try (Connection primary = DriverManager.getConnection("jdbc:h2:mem:replica-primary", "sa", "");
+             Connection stale = DriverManager.getConnection("jdbc:h2:mem:replica-stale", "sa", "");
+             Statement primaryStatement = primary.createStatement();
+             Statement staleStatement = stale.createStatement()) {
+            primaryStatement.execute("SCRIPT TO '" + script.toAbsolutePath() + "'");
+            staleStatement.execute("DROP ALL OBJECTS");
+            staleStatement.execute("RUNSCRIPT FROM '" + script.toAbsolutePath() + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private static void writeStaleBeat(long beatAt) throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:replica-stale", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+            statement.execute("DELETE FROM replica_heartbeat");
+            statement.execute("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, " + beatAt + ")");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.pentasecurity.strategyboard.prefetch;
+
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NextPagePrefetcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void testPrefetchedPageIsServedUntilPostsChange() throws Exception {
+        // Given
+        NextPagePrefetcher prefetcher = new NextPagePrefetcher(meterRegistry, true, Duration.ofSeconds(30), 100, 1, 10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When: 커서 41 다음 페이지를 선조회
+        prefetcher.prefetch(null, 41L, 2, () -> {
+            loads.incrementAndGet();
+            return List.of(post(40L), post(39L));
+        });
+        Optional<List<PostDto>> page = awaitPage(prefetcher, null, 41L, 2);
+
+        // Then: DB 조회 없이 응답, 작성자/크기가 다른 요청은 대상 아님
+        assertTrue(page.isPresent());
+        assertEquals(40L, page.get().get(0).getId());
+        assertTrue(prefetcher.take("작성자", 41L, 2).isEmpty());
+        assertTrue(prefetcher.take(null, 41L, 3).isEmpty());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("board.prefetch.loaded").counter().count());
+
+        // When: 게시글 변경으로 비움
+        prefetcher.clear();
+
+        // Then
+        assertTrue(prefetcher.take(null, 41L, 2).isEmpty());
+        prefetcher.shutdown();
+    }
+
+    @Test
+    public void testOnlyPagesHoldingChangedPostAreInvalidated() throws Exception {
+        // Given: 커서 41, 39 다음 페이지
+        NextPagePrefetcher prefetcher = new NextPagePrefetcher(meterRegistry, true, Duration.ofSeconds(30), 100, 1, 10);
+        prefetcher.prefetch(null, 41L, 2, () -> List.of(post(40L), post(39L)));
+        prefetcher.prefetch(null, 39L, 2, () -> List.of(post(38L), post(37L)));
+        assertTrue(awaitPage(prefetcher, null, 39L, 2).isPresent());
+        awaitPage(prefetcher, null, 41L, 2);
+
+        // When: 새 게시글 등록
+        prefetcher.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, post(100L)));
+
+        // Then: 기존 커서 아래 페이지에는 영향이 없으므로 유지
+        assertTrue(prefetcher.take(null, 41L, 2).isPresent());
+        assertTrue(prefetcher.take(null, 39L, 2).isPresent());
+
+        // When: 커서 41 페이지에 담긴 게시글 삭제
+        prefetcher.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.DELETED, post(40L)));
+
+        // Then: 그 페이지만 버림
+        assertTrue(prefetcher.take(null, 41L, 2).isEmpty());
+        assertTrue(prefetcher.take(null, 39L, 2).isPresent());
+        prefetcher.shutdown();
+    }
+
+    @Test
+    public void testUnusedInvalidatedPageCountsAsWasted() throws Exception {
+        // Given: 한 번도 쓰이지 않은 선조회 페이지
+        NextPagePrefetcher prefetcher = new NextPagePrefetcher(meterRegistry, true, Duration.ofSeconds(30), 100, 1, 10);
+        prefetcher.prefetch(null, 41L, 2, () -> List.of(post(40L), post(39L)));
+        awaitCachedPages(prefetcher, 1);
+
+        // When
+        prefetcher.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.UPDATED, post(39L)));
+
+        // Then: 제거 알림은 비동기로 처리됨
+        Counter wasted = meterRegistry.get("board.prefetch.wasted").counter();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (wasted.count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1.0, wasted.count());
+        prefetcher.shutdown();
+    }
+
+    @Test
+    public void testDisabledPrefetcherSkipsLoads() throws Exception {
+        // Given
+        NextPagePrefetcher prefetcher = new NextPagePrefetcher(meterRegistry, true, Duration.ofSeconds(30), 100, 1, 10);
+        prefetcher.setEnabled(false);
+        CountDownLatch loaded = new CountDownLatch(1);
+
+        // When
+        prefetcher.prefetch(null, 41L, 2, () -> {
+            loaded.countDown();
+            return List.of(post(40L));
+        });
+
+        // Then: 조회하지 않음
+        assertFalse(loaded.await(200, TimeUnit.MILLISECONDS));
+        assertTrue(prefetcher.take(null, 41L, 2).isEmpty());
+        prefetcher.shutdown();
+    }
+
+    private static Optional<List<PostDto>> awaitPage(NextPagePrefetcher prefetcher, String author, Long lastId,
+                                                     int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Optional<List<PostDto>> page = prefetcher.take(author, lastId, size);
+        while (page.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            page = prefetcher.take(author, lastId, size);
+        }
+        return page;
+    }
+
+    private static void awaitCachedPages(NextPagePrefetcher prefetcher, long pages) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (prefetcher.cachedPages() < pages && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static PostDto post(Long id) {
+        PostDto post = new PostDto();
+        post.setId(id);
+        return post;
+    }
+}
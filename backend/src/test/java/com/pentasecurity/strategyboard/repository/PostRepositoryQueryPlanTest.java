@@ -0,0 +1,152 @@
+package com.pentasecurity.strategyboard.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PostRepository의 모든 조회 쿼리(와 일괄 삭제 쿼리)에 대해 H2 EXPLAIN 실행 계획을 검사
+ * 테이블 전체 스캔(tableScan)이나, ORDER BY가 있는데 인덱스 순서로 읽지 못하는(filesort) 쿼리가 있으면 실패
+ *
+ * 새 쿼리 메서드를 추가하면 QUERIES에도 등록해야 하며, 등록하지 않으면 testEveryRepositoryQueryIsChecked가 실패
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostRepositoryQueryPlanTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+    private static final Pageable DEEP_PAGE = PageRequest.of(100, 10);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.now();
+    private static final String AUTHOR = "관리자";
+
+    // 쿼리 메서드 이름 → 호출 방법 (실행 계획만 검사하므로 파라미터 값은 의미 없음)
+    private static final Map<String, Consumer<PostRepository>> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("findAllByOrderByCreatedAtDesc", repo -> repo.findAllByOrderByCreatedAtDesc(DEEP_PAGE));
+        QUERIES.put("findByIdLessThanOrderByIdDesc", repo -> repo.findByIdLessThanOrderByIdDesc(100L, FIRST_PAGE));
+        QUERIES.put("findAllByOrderByIdDesc", repo -> repo.findAllByOrderByIdDesc(FIRST_PAGE));
+        QUERIES.put("findAllByOrderByCreatedAtDescIdDesc", repo -> repo.findAllByOrderByCreatedAtDescIdDesc(DEEP_PAGE));
+        QUERIES.put("findByCreatedAtAndIdBefore", repo -> repo.findByCreatedAtAndIdBefore(CREATED_AT, 100L, FIRST_PAGE));
+        QUERIES.put("findCreatedAtById", repo -> repo.findCreatedAtById(1L));
+        QUERIES.put("findAllByOrderByIdAsc", repo -> repo.findAllByOrderByIdAsc(FIRST_PAGE));
+        QUERIES.put("findByIdGreaterThanOrderByIdAsc", repo -> repo.findByIdGreaterThanOrderByIdAsc(1L, FIRST_PAGE));
+        QUERIES.put("findAllByOrderByCreatedAtAscIdAsc", repo -> repo.findAllByOrderByCreatedAtAscIdAsc(FIRST_PAGE));
+        QUERIES.put("findByCreatedAtAndIdAfter", repo -> repo.findByCreatedAtAndIdAfter(CREATED_AT, 1L, FIRST_PAGE));
+        QUERIES.put("findAllByOrderByAuthorAscIdAsc", repo -> repo.findAllByOrderByAuthorAscIdAsc(FIRST_PAGE));
+        QUERIES.put("findAllByOrderByAuthorDescIdDesc", repo -> repo.findAllByOrderByAuthorDescIdDesc(FIRST_PAGE));
+        QUERIES.put("findByAuthorAndIdAfter", repo -> repo.findByAuthorAndIdAfter(AUTHOR, 1L, FIRST_PAGE));
+        QUERIES.put("findByAuthorAndIdBefore", repo -> repo.findByAuthorAndIdBefore(AUTHOR, 100L, FIRST_PAGE));
+        QUERIES.put("findByAuthorOrderByIdDesc", repo -> repo.findByAuthorOrderByIdDesc(AUTHOR, DEEP_PAGE));
+        QUERIES.put("findByAuthorAndIdLessThanOrderByIdDesc",
+                repo -> repo.findByAuthorAndIdLessThanOrderByIdDesc(AUTHOR, 100L, FIRST_PAGE));
+        QUERIES.put("countByAuthor", repo -> repo.countByAuthor(AUTHOR));
+        QUERIES.put("findByKeywordAndIdLessThan", repo -> repo.findByKeywordAndIdLessThan("전략", 100L, FIRST_PAGE));
+        QUERIES.put("findIdsByOrderByIdDesc", repo -> repo.findIdsByOrderByIdDesc(DEEP_PAGE));
+        QUERIES.put("findSummariesByOrderByCreatedAtDescIdDesc",
+                repo -> repo.findSummariesByOrderByCreatedAtDescIdDesc(FIRST_PAGE));
+        QUERIES.put("findSummariesByCreatedAtAndIdBefore",
+                repo -> repo.findSummariesByCreatedAtAndIdBefore(CREATED_AT, 100L, FIRST_PAGE));
+        QUERIES.put("findSummariesByOrderByIdDesc", repo -> repo.findSummariesByOrderByIdDesc(FIRST_PAGE));
+        QUERIES.put("findSummariesByIdLessThanOrderByIdDesc",
+                repo -> repo.findSummariesByIdLessThanOrderByIdDesc(100L, FIRST_PAGE));
+        QUERIES.put("findSummariesByIdIn", repo -> repo.findSummariesByIdIn(List.of(1L, 2L, 3L)));
+        QUERIES.put("streamAllByOrderByIdAsc", repo -> {
+            try (Stream<?> posts = repo.streamAllByOrderByIdAsc()) {
+                posts.limit(1).count();
+            }
+        });
+        QUERIES.put("findMinIdCreatedAtOrAfter", repo -> repo.findMinIdCreatedAtOrAfter(CREATED_AT));
+        QUERIES.put("findMaxId", PostRepository::findMaxId);
+        // 삭제 대상이 없는 ID로 호출 (실행 계획은 같음)
+        QUERIES.put("deleteAllUpToId", repo -> repo.deleteAllUpToId(0L));
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    public void disableQueryStatistics() {
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+    }
+
+    static Stream<String> queryNames() {
+        return QUERIES.keySet().stream();
+    }
+
+    @Test
+    public void testEveryRepositoryQueryIsChecked() {
+        // Given: PostRepository에 직접 선언된 쿼리 메서드
+        Set<String> declared = Arrays.stream(PostRepository.class.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic())
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        // Then: 모두 실행 계획 검사 대상에 포함
+        assertEquals(declared, QUERIES.keySet());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryNames")
+    public void testQueryUsesIndex(String queryName) {
+        // Given: 실행된 SQL을 기록하도록 통계 초기화
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+        jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+
+        // When: 쿼리 메서드 실행 (스트림 조회는 트랜잭션 필요)
+        transactionTemplate.executeWithoutResult(status -> QUERIES.get(queryName).accept(postRepository));
+        List<String> statements = jdbcTemplate.queryForList(
+                        "SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS", String.class)
+                .stream()
+                .filter(sql -> sql.startsWith("select") || sql.startsWith("delete"))
+                .toList();
+
+        // Then: 실행된 모든 SELECT/DELETE가 인덱스를 사용
+        assertFalse(statements.isEmpty(), queryName + ": 실행된 SELECT/DELETE가 없습니다");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.contains("tableScan"),
+                    queryName + ": 테이블 전체 스캔\n" + sql + "\n" + plan);
+            if (sql.toLowerCase(Locale.ROOT).contains(" order by ")) {
+                assertTrue(plan.contains("index sorted"),
+                        queryName + ": 인덱스 순서로 정렬되지 않음 (filesort)\n" + sql + "\n" + plan);
+            }
+        }
+    }
+
+    /**
+     * 바인딩 파라미터를 NULL로 둔 채 실행 계획만 조회 (계획은 파라미터 값과 무관하게 결정됨)
+     */
+    private String explain(String sql) {
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, new Object[parameterCount]);
+    }
+}
@@ -0,0 +1,173 @@
+package com.pentasecurity.strategyboard.search;
+
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import com.pentasecurity.strategyboard.strategy.LoadStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SearchIndexTest {
+
+    @Autowired
+    private LoadStrategyFactory strategyFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Test
+    public void testTokenizerSplitsHangulIntoGramsAndLatinIntoWords() {
+        // When
+        Set<String> indexed = PostTokenizer.indexTokens("전략패턴 Strategy-Board!");
+        Set<String> query = PostTokenizer.queryTokens("패턴 BOARD 략");
+
+        // Then
+        assertTrue(indexed.containsAll(List.of("전략", "략패", "패턴", "전", "략", "strategy", "board")));
+        assertEquals(Set.of("패턴", "board", "략"), query);
+        assertTrue(indexed.containsAll(query));
+    }
+
+    @Test
+    public void testMatchingRuleFollowsIndexTokens() {
+        // Given
+        String text = "Spring Boot와 springboot 게시글입니다";
+        Set<String> indexed = PostTokenizer.indexTokens(text);
+
+        // When & Then: 라틴 문자는 색인 토큰과 같이 단어 전체만 일치 (한글이 붙어도 단어 경계)
+        assertTrue(indexed.contains("boot") && PostTokenizer.contains(text, "boot"));
+        assertTrue(indexed.contains("spring") && PostTokenizer.contains(text, "spring"));
+        assertFalse(indexed.contains("spri") || PostTokenizer.contains(text, "spri"));
+        assertFalse(PostTokenizer.contains("springboot", "spring"));
+
+        // When & Then: 한글은 부분 문자열로 일치
+        assertTrue(PostTokenizer.contains(text, "게시글"));
+        assertFalse(PostTokenizer.contains(text, "게시판"));
+
+        // When & Then: 질의어는 문장부호를 버린 한글 구간/라틴 단어
+        assertEquals(List.of("spring", "게시글"), PostTokenizer.queryTerms("  Spring, 게시글!! SPRING"));
+        assertTrue(PostTokenizer.queryTerms("?! ...").isEmpty());
+    }
+
+    @Test
+    public void testSearchStrategyRejectsPunctuationOnlyKeyword() {
+        // Given
+        PostListRequest request = new PostListRequest(0, 10, "search");
+        request.setKeyword("?! ...");
+
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> strategyFactory.getStrategy("search").loadPosts(request));
+    }
+
+    @Test
+    public void testPostingListAdvanceMatchesSortedSet() {
+        // Given: 대부분 증가하는 ID에 가끔 오래된 ID가 섞여 들어오는 경우
+        Random random = new Random(42);
+        PostingList postings = new PostingList();
+        TreeSet<Long> expected = new TreeSet<>();
+        long id = 0;
+        for (int i = 0; i < 5000; i++) {
+            id += 1 + random.nextInt(20);
+            long added = random.nextInt(10) == 0 ? random.nextInt((int) id) : id;
+            postings.add(added);
+            expected.add(added);
+        }
+
+        // When & Then
+        assertEquals(expected.size(), postings.size());
+        PostingList.Cursor cursor = postings.cursor();
+        for (long target = id + 5; target >= -1; target -= 1 + random.nextInt(7)) {
+            Long floor = expected.floor(target);
+            assertEquals(floor == null ? -1 : floor, cursor.advance(target), "target=" + target);
+        }
+    }
+
+    @Test
+    public void testPostingListRemoveUpToDropsArchivedPrefix() {
+        // Given: 여러 블록과 압축 전 버퍼에 걸친 ID
+        PostingList postings = new PostingList();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (long id = 1; id <= 1000; id += 3) {
+            postings.add(id);
+            expected.add(id);
+        }
+        int bytesBefore = postings.compressedBytes();
+
+        // When: 블록 중간에 걸친 경계까지 보관
+        postings.removeUpTo(500);
+        expected.headSet(500L, true).clear();
+
+        // Then: 남은 ID와 탐색 결과가 같고, 새 ID도 이어서 추가됨
+        assertEquals(expected.size(), postings.size());
+        assertTrue(postings.compressedBytes() < bytesBefore);
+        postings.add(2000);
+        expected.add(2000L);
+        PostingList.Cursor cursor = postings.cursor();
+        for (long target = 2001; target >= -1; target--) {
+            Long floor = expected.floor(target);
+            assertEquals(floor == null ? -1 : floor, cursor.advance(target), "target=" + target);
+        }
+    }
+
+    @Test
+    public void testSearchStrategyPagesThroughMatchingPostsNewestFirst() throws InterruptedException {
+        // Given: 색인 적재 완료 후 새 게시글 등록 (이벤트로 증분 반영)
+        waitUntilReady();
+        Post saved = postRepository.save(new Post("검색 전용 제목", "색인증분반영 확인용 본문 Lucene", "테스터"));
+        LoadStrategy strategy = strategyFactory.getStrategy("search");
+
+        // When: 3건씩 끝까지 조회
+        List<Long> found = new ArrayList<>();
+        Long lastId = null;
+        do {
+            PostListRequest request = new PostListRequest(0, 3, "search");
+            request.setKeyword("번째 게시글");
+            request.setLastId(lastId);
+            PageResponse<PostDto> page = strategy.loadPosts(request);
+            page.getContent().forEach(post -> found.add(post.getId()));
+            lastId = page.getNextCursor();
+        } while (lastId != null);
+
+        PostListRequest incremental = new PostListRequest(0, 10, "search");
+        incremental.setKeyword("lucene 증분");
+        PageResponse<PostDto> incrementalPage = strategy.loadPosts(incremental);
+        postRepository.delete(saved);
+
+        // Then: 전체 게시글을 직접 대조한 결과와 같은 게시글을 최신순으로 조회
+        List<Long> expected = postRepository.findAll().stream()
+                .filter(post -> post.getContent().contains("번째") && post.getContent().contains("게시글"))
+                .map(Post::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, found);
+        assertEquals(List.of(saved.getId()),
+                incrementalPage.getContent().stream().map(PostDto::getId).toList());
+    }
+
+    private void waitUntilReady() throws InterruptedException {
+        for (int i = 0; i < 100 && !searchIndex.isReady(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(searchIndex.isReady());
+    }
+}
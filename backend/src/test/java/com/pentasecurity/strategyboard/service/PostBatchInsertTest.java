@@ -0,0 +1,96 @@
+package com.pentasecurity.strategyboard.service;
+
+import com.pentasecurity.strategyboard.dto.PostBatchCreateResponse;
+import com.pentasecurity.strategyboard.dto.PostCreateRequest;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 일괄 등록(JDBC 배치) vs 건별 save() 실행 SQL 문 수 비교
+ * (실행 시간은 실행 환경 부하에 따라 달라지므로 Hibernate 통계의 PreparedStatement 수로 확인)
+ */
+@SpringBootTest(properties = {
+        // 다른 테스트 컨텍스트와 DB를 공유하지 않도록 별도 인메모리 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:batch-insert-test",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class PostBatchInsertTest {
+
+    private static final int ROWS = 2000;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int jdbcBatchSize;
+
+    @Test
+    public void testBatchInsertAllocatesIncreasingIdsInFewStatements() {
+        // Given
+        List<PostCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            requests.add(new PostCreateRequest("배치 게시글 " + i, "배치 등록 테스트 내용 " + i, "배치작성자" + (i % 10)));
+        }
+        long before = postRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // When: 건별 save() (요청마다 트랜잭션 1개, INSERT 1개)
+        statistics.clear();
+        for (PostCreateRequest request : requests) {
+            postRepository.save(new Post(request.getTitle(), request.getContent(), request.getAuthor()));
+        }
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        // When: 일괄 등록 (트랜잭션 1개, 배치 INSERT)
+        statistics.clear();
+        PostBatchCreateResponse response = postService.createPosts(requests);
+        long batchStatements = statistics.getPrepareStatementCount();
+        long batchInserts = statistics.getEntityInsertCount();
+
+        // Then
+        assertEquals(ROWS, response.getCreated());
+        assertEquals(before + 2L * ROWS, postRepository.count());
+
+        // 일괄 등록 ID는 단조 증가하며 기존 게시글보다 큼 (무한스크롤 커서 순서 유지)
+        assertTrue(response.getLastId() - response.getFirstId() >= ROWS - 1);
+        List<Post> newest = postRepository.findByIdLessThanOrderByIdDesc(
+                response.getLastId() + 1, PageRequest.of(0, ROWS));
+        assertEquals("배치 게시글 " + (ROWS - 1), newest.get(0).getTitle());
+        assertEquals("배치 게시글 0", newest.get(ROWS - 1).getTitle());
+
+        // 건별 save()는 INSERT마다 PreparedStatement를 하나씩 준비함
+        assertTrue(singleStatements >= ROWS, "건별 save() SQL 문 " + singleStatements + "개");
+
+        // 일괄 등록은 배치 크기마다 INSERT 문 1개 + 할당 크기마다 시퀀스 조회 1개만 준비함
+        assertEquals(ROWS, batchInserts);
+        long maxBatchStatements = Math.ceilDiv(ROWS, jdbcBatchSize) + Math.ceilDiv(ROWS, Post.ID_ALLOCATION_SIZE) + 1;
+        assertTrue(batchStatements <= maxBatchStatements,
+                "일괄 등록 SQL 문 " + batchStatements + "개 (최대 " + maxBatchStatements + "개)");
+    }
+}
@@ -0,0 +1,149 @@
+package com.pentasecurity.strategyboard.shard;
+
+import com.pentasecurity.strategyboard.dto.PageResponse;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostListRequest;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.strategy.LoadStrategy;
+import com.pentasecurity.strategyboard.strategy.LoadStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        // 다른 테스트 컨텍스트와 DB를 공유하지 않도록 별도 인메모리 DB 사용
+        "spring.datasource.url=jdbc:h2:mem:sharded-primary",
+        "board.shards.count=3",
+        "board.shards.url-prefix=jdbc:h2:mem:sharded-test-"
+})
+@ActiveProfiles({ "test", "sharded" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ShardedPostStoreTest {
+
+    @Autowired
+    private LoadStrategyFactory strategyFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ShardedPostStore shardedPostStore;
+
+    @Test
+    public void testMergeSkipsAndLimitsAcrossRuns() {
+        // Given: 샤드별 ID 내림차순 결과
+        List<List<Long>> runs = List.of(List.of(9L, 6L, 3L), List.of(8L, 5L), List.of(), List.of(7L, 4L, 1L));
+
+        // When
+        List<Long> merged = KWayMerge.newestFirst(runs, Long::longValue, 2, 4);
+
+        // Then
+        assertEquals(List.of(7L, 6L, 5L, 4L), merged);
+    }
+
+    @Test
+    public void testShardedStrategyMatchesPrimaryOrderAndFollowsWrites() throws Exception {
+        // Given
+        List<Post> created = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            created.add(postRepository.save(new Post("샤드 테스트 " + i, "샤드 내용 " + i, "테스터")));
+        }
+        awaitReady();
+        LoadStrategy sharded = strategyFactory.getStrategy("sharded");
+        List<Long> expected = postRepository.findAllByOrderByIdDesc(PageRequest.of(0, 1000)).stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+
+        // Then: 모든 샤드에 나뉘어 저장됨
+        assertTrue(shardedPostStore.countsByShard().stream().allMatch(count -> count > 0));
+        assertEquals(expected.size(), shardedPostStore.count());
+
+        // When: 페이지 번호 조회
+        PostListRequest pageRequest = new PostListRequest(1, 7, "sharded");
+        PageResponse<PostDto> page = sharded.loadPosts(pageRequest);
+
+        // Then: 기본 DB의 ID 내림차순과 같은 구간
+        assertEquals(expected.subList(7, 14), ids(page.getContent()));
+        assertEquals(expected.size(), page.getTotalElements());
+        assertEquals(expected.get(13), page.getNextCursor());
+
+        // When: 커서로 끝까지 조회
+        List<Long> scrolled = new ArrayList<>();
+        Long lastId = null;
+        do {
+            PostListRequest cursorRequest = new PostListRequest(0, 9, "sharded");
+            cursorRequest.setLastId(lastId == null ? Long.MAX_VALUE : lastId);
+            PageResponse<PostDto> response = sharded.loadPosts(cursorRequest);
+            scrolled.addAll(ids(response.getContent()));
+            lastId = response.getNextCursor();
+        } while (lastId != null);
+
+        // Then: 빠짐/중복 없이 전체 순서 유지
+        assertEquals(expected, scrolled);
+
+        // When: 새 글 등록/삭제
+        Post newest = postRepository.save(new Post("샤드 새 글", "최신", "테스터"));
+        postRepository.deleteById(created.get(0).getId());
+
+        // Then: 커밋된 변경이 샤드 조회에 반영
+        List<Long> first = ids(sharded.loadPosts(new PostListRequest(0, 100, "sharded")).getContent());
+        assertEquals(newest.getId(), first.get(0));
+        assertFalse(first.contains(created.get(0).getId()));
+    }
+
+    @Test
+    public void testFailedShardWriteMarksStoreNotReadyUntilReloaded() throws Exception {
+        // Given
+        awaitReady();
+        PostDto invalid = new PostDto();
+        invalid.setId(Long.MAX_VALUE - 1);
+        long generation = shardedPostStore.generation();
+
+        // When: 샤드 반영 실패 (NOT NULL 제약 위반)
+        shardedPostStore.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, invalid));
+
+        // Then: 새 세대의 적재가 요청되고, 그 적재가 끝나야 준비 완료 (적재가 빨리 끝날 수 있어 준비 해제 상태는 확인하지 않음)
+        assertEquals(generation + 1, shardedPostStore.generation());
+        for (int i = 0; i < 100 && !shardedPostStore.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(shardedPostStore.isReady());
+        assertEquals(postRepository.count(), shardedPostStore.count());
+    }
+
+    @Test
+    public void testShardedStrategyRejectsAuthorFilter() {
+        // Given
+        PostListRequest request = new PostListRequest(0, 10, "sharded");
+        request.setAuthor("테스터");
+
+        // When & Then
+        assertThrows(InvalidRequestException.class,
+                () -> strategyFactory.getStrategy("sharded").loadPosts(request));
+    }
+
+    private void awaitReady() throws InterruptedException {
+        // 기동 시 적재 후 테스트에서 추가한 게시글도 반영되도록 다시 적재 (이전 적재가 끝나 있어도 이번 세대의 적재가 끝나야 준비 완료)
+        shardedPostStore.reload();
+        for (int i = 0; i < 100 && !shardedPostStore.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(shardedPostStore.isReady());
+    }
+
+    private static List<Long> ids(List<PostDto> posts) {
+        return posts.stream().map(PostDto::getId).collect(Collectors.toList());
+    }
+}
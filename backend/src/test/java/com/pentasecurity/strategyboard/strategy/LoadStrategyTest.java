@@ -1,13 +1,29 @@
 package com.pentasecurity.strategyboard.strategy;
 
+import com.pentasecurity.strategyboard.archive.PostArchive;
+import com.pentasecurity.strategyboard.cache.HotPostRing;
+import com.pentasecurity.strategyboard.counter.PostCounter;
 import com.pentasecurity.strategyboard.dto.PostListRequest;
 import com.pentasecurity.strategyboard.dto.PageResponse;
 import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.dto.PostSummaryDto;
+import com.pentasecurity.strategyboard.entity.Post;
+import com.pentasecurity.strategyboard.exception.InvalidRequestException;
+import com.pentasecurity.strategyboard.repository.PostRepository;
+import com.pentasecurity.strategyboard.strategy.impl.AutoLoadStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -17,6 +33,21 @@ public class LoadStrategyTest {
     @Autowired
     private LoadStrategyFactory strategyFactory;
 
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCounter postCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HotPostRing hotPostRing;
+
+    @Autowired
+    private PostArchive postArchive;
+
     @Test
     public void testPaginationStrategy() {
         // Given
@@ -46,4 +77,284 @@ public class LoadStrategyTest {
         assertNotNull(response.getContent());
         assertTrue(response.getContent().size() <= 10);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testInfiniteScrollStrategyHonorsSizeAboveTen() {
+        // Given
+        LoadStrategy strategy = strategyFactory.getStrategy("infinite");
+        PostListRequest firstRequest = new PostListRequest(0, 20, "infinite");
+
+        // When
+        PageResponse<PostDto> firstPage = strategy.loadPosts(firstRequest);
+
+        PostListRequest nextRequest = new PostListRequest(0, 20, "infinite");
+        nextRequest.setLastId(firstPage.getNextCursor());
+        PageResponse<PostDto> nextPage = strategy.loadPosts(nextRequest);
+
+        // Then
+        assertEquals(20, firstPage.getContent().size());
+        assertTrue(nextPage.getContent().get(0).getId() < firstPage.getNextCursor());
+    }
+
+    @Test
+    public void testKeysetPaginationStrategy() {
+        // Given
+        LoadStrategy strategy = strategyFactory.getStrategy("keyset-pagination");
+        PostListRequest firstRequest = new PostListRequest(0, 10, "keyset-pagination");
+
+        // When
+        PageResponse<PostDto> firstPage = strategy.loadPosts(firstRequest);
+
+        PostListRequest secondRequest = new PostListRequest(1, 10, "keyset-pagination");
+        secondRequest.setLastId(firstPage.getNextCursor());
+        PageResponse<PostDto> secondPage = strategy.loadPosts(secondRequest);
+
+        // Then
+        assertEquals(10, firstPage.getContent().size());
+        assertTrue(firstPage.isFirst());
+        assertTrue(firstPage.isHasNext());
+        assertNotNull(firstPage.getNextCursor());
+
+        assertEquals(1, secondPage.getPage());
+        assertFalse(secondPage.isFirst());
+
+        // 두 페이지 사이에 중복 게시글이 없어야 함
+        Set<Long> ids = new HashSet<>();
+        firstPage.getContent().forEach(post -> ids.add(post.getId()));
+        secondPage.getContent().forEach(post -> assertTrue(ids.add(post.getId())));
+    }
+
+    @Test
+    public void testPaginationTotalsFollowPostCounter() {
+        // Given
+        LoadStrategy strategy = strategyFactory.getStrategy("pagination");
+        long before = postCounter.get();
+
+        // When
+        Post saved = postRepository.save(new Post("카운터 테스트", "카운터 테스트 내용", "테스터"));
+        PageResponse<PostDto> afterCreate = strategy.loadPosts(new PostListRequest(0, 10, "pagination"));
+        postRepository.delete(saved);
+
+        // Then
+        assertEquals(before + 1, afterCreate.getTotalElements());
+        assertEquals(postRepository.count(), postCounter.get());
+    }
+
+    @Test
+    public void testSummariesMatchFullPostsForEveryStrategy() {
+        for (String type : List.of("pagination", "infinite", "keyset-pagination", "auto")) {
+            // Given
+            LoadStrategy strategy = strategyFactory.getStrategy(type);
+            PostListRequest request = new PostListRequest(0, 10, type);
+
+            // When
+            PageResponse<PostDto> full = strategy.loadPosts(request);
+            PageResponse<PostSummaryDto> summaries = strategy.loadSummaries(request);
+
+            // Then
+            assertEquals(
+                    full.getContent().stream().map(PostDto::getId).toList(),
+                    summaries.getContent().stream().map(PostSummaryDto::getId).toList(),
+                    type);
+            assertEquals(full.getNextCursor(), summaries.getNextCursor(), type);
+            summaries.getContent().forEach(summary ->
+                    assertTrue(summary.getExcerpt().length() <= PostSummaryDto.EXCERPT_LENGTH + 3));
+        }
+    }
+
+    @Test
+    public void testStrategyMetricsAreRecordedPerStrategy() {
+        // Given
+        LoadStrategy pagination = strategyFactory.getStrategy("pagination");
+        LoadStrategy infinite = strategyFactory.getStrategy("infinite");
+        long paginationCalls = timerCount("pagination");
+        double paginationStatements = statementTotal("pagination");
+        double infiniteStatements = statementTotal("infinite");
+        double paginationErrors = errorCount("pagination");
+
+        // When: 페이징은 DB 조회, 무한스크롤 첫 페이지는 최신 게시글 버퍼에서 응답
+        pagination.loadPosts(new PostListRequest(0, 10, "pagination"));
+        infinite.loadPosts(new PostListRequest(0, 10, "infinite"));
+        assertThrows(IllegalArgumentException.class,
+                () -> pagination.loadPosts(new PostListRequest(0, 0, "pagination")));
+
+        // Then
+        assertEquals(paginationCalls + 1, timerCount("pagination"));
+        assertTrue(statementTotal("pagination") > paginationStatements);
+        assertEquals(infiniteStatements, statementTotal("infinite"));
+        assertEquals(paginationErrors + 1, errorCount("pagination"));
+    }
+
+    @Test
+    public void testAutoStrategyReturnsSamePagesOnEveryRoute() {
+        // Given: OFFSET 10 이상을 깊은 페이지로 보고, 2번마다 다른 경로를 시도하는 auto 전략
+        AutoLoadStrategy auto = new AutoLoadStrategy(postRepository, postCounter, hotPostRing, postArchive,
+                meterRegistry, 10, 2);
+        List<Long> allIds = postRepository.findAllByOrderByIdDesc(PageRequest.of(0, Integer.MAX_VALUE)).stream()
+                .map(Post::getId)
+                .toList();
+
+        for (int page = 0; page < 5; page++) {
+            // When: 깊은 페이지는 OFFSET과 지연 조인 경로를 번갈아 사용
+            PageResponse<PostDto> actual = auto.loadPosts(new PostListRequest(page, 10, "auto"));
+
+            // Then: 모든 경로가 ID 내림차순
+            assertEquals(allIds.subList(Math.min(page * 10, allIds.size()), Math.min(page * 10 + 10, allIds.size())),
+                    actual.getContent().stream().map(PostDto::getId).toList());
+            assertEquals(postCounter.get(), actual.getTotalElements());
+            assertEquals((page + 1) * 10 < allIds.size(), actual.isHasNext());
+        }
+
+        // When: 커서로 끝까지 조회 (앞쪽은 버퍼, 뒤쪽은 키셋 탐색)
+        List<Long> scrolled = new ArrayList<>();
+        PageResponse<PostDto> response = auto.loadPosts(new PostListRequest(0, 7, "auto"));
+        scrolled.addAll(response.getContent().stream().map(PostDto::getId).toList());
+        while (response.getNextCursor() != null) {
+            PostListRequest cursorRequest = new PostListRequest(1, 7, "auto");
+            cursorRequest.setLastId(response.getNextCursor());
+            response = auto.loadPosts(cursorRequest);
+            // size + 1개로 확인하므로 다음 페이지가 있다고 한 뒤 빈 페이지가 나오지 않음
+            assertFalse(response.getContent().isEmpty());
+            assertEquals(postCounter.get(), response.getTotalElements());
+            scrolled.addAll(response.getContent().stream().map(PostDto::getId).toList());
+        }
+
+        // Then: 페이지 번호 경로와 같은 순서로 빠짐/중복 없이 조회
+        assertEquals(allIds, scrolled);
+
+        // When & Then: 전체 건수와 같은 크기의 첫 페이지는 다음 페이지가 없음
+        PageResponse<PostDto> whole = auto.loadPosts(new PostListRequest(0, allIds.size(), "auto"));
+        assertEquals(allIds, whole.getContent().stream().map(PostDto::getId).toList());
+        assertFalse(whole.isHasNext());
+        assertNull(whole.getNextCursor());
+    }
+
+    @Test
+    public void testCursorTokensWalkEverySortForwardAndBackward() {
+        LoadStrategy strategy = strategyFactory.getStrategy("infinite");
+        List<Long> allIds = postRepository.findAll().stream().map(Post::getId).toList();
+
+        for (String sort : List.of("id,desc", "id,asc", "createdAt,asc", "createdAt,desc", "author,asc", "author,desc")) {
+            // Given: 첫 페이지 요청
+            PostListRequest request = new PostListRequest(0, 7, "infinite");
+            request.setSort(sort);
+
+            // When: nextToken으로 끝까지 이동
+            List<List<Long>> pages = new ArrayList<>();
+            PageResponse<PostDto> response = strategy.loadPosts(request);
+            pages.add(response.getContent().stream().map(PostDto::getId).toList());
+            while (response.getNextToken() != null) {
+                PostListRequest next = new PostListRequest(0, 7, "infinite");
+                next.setCursor(response.getNextToken());
+                response = strategy.loadPosts(next);
+                pages.add(response.getContent().stream().map(PostDto::getId).toList());
+            }
+
+            // Then: 모든 게시글을 중복 없이 한 번씩 조회
+            List<Long> walked = pages.stream().flatMap(List::stream).toList();
+            assertEquals(allIds.size(), walked.size(), sort);
+            assertEquals(new HashSet<>(allIds), new HashSet<>(walked), sort);
+
+            // When: 마지막 페이지에서 prevToken으로 되돌아가면 직전 페이지와 같은 게시글을 같은 순서로 조회
+            if (pages.size() > 1 && !pages.get(pages.size() - 1).isEmpty()) {
+                PostListRequest previous = new PostListRequest(0, 7, "infinite");
+                previous.setCursor(response.getPrevToken());
+                PageResponse<PostDto> back = strategy.loadPosts(previous);
+
+                assertEquals(pages.get(pages.size() - 2),
+                        back.getContent().stream().map(PostDto::getId).toList(), sort);
+                assertNotNull(back.getNextToken(), sort);
+            }
+        }
+    }
+
+    @Test
+    public void testAuthorFilterWalksOnlyAuthorPostsAcrossCacheBoundary() {
+        // Given: 작성자 캐시 보관 크기(50)보다 많은 게시글을 가진 작성자
+        String author = "필터테스터";
+        List<Post> saved = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            saved.add(postRepository.save(new Post("작성자 필터 " + i, "작성자 필터 내용 " + i, author)));
+        }
+        List<Long> expected = saved.stream().map(Post::getId).sorted((a, b) -> Long.compare(b, a)).toList();
+
+        try {
+            // When: 무한스크롤은 lastId(게시글 수의 약수인 크기), 페이징은 페이지 번호로 끝까지 조회
+            List<Long> scrolled = new ArrayList<>();
+            List<Integer> scrolledPageSizes = new ArrayList<>();
+            Long lastId = null;
+            do {
+                PostListRequest request = new PostListRequest(0, 6, "infinite");
+                request.setAuthor(author);
+                request.setLastId(lastId);
+                PageResponse<PostDto> response = strategyFactory.getStrategy("infinite").loadPosts(request);
+                response.getContent().forEach(post -> scrolled.add(post.getId()));
+                scrolledPageSizes.add(response.getContent().size());
+                lastId = response.getNextCursor();
+            } while (lastId != null);
+
+            List<Long> paged = new ArrayList<>();
+            PageResponse<PostDto> page;
+            int pageNumber = 0;
+            do {
+                PostListRequest request = new PostListRequest(pageNumber++, 7, "pagination");
+                request.setAuthor(author);
+                page = strategyFactory.getStrategy("pagination").loadPosts(request);
+                page.getContent().forEach(post -> paged.add(post.getId()));
+            } while (page.isHasNext());
+
+            // Then: 작성자 게시글만 최신순으로 빠짐없이 조회되고 전체 건수도 작성자 기준
+            assertEquals(expected, scrolled);
+            assertFalse(scrolledPageSizes.contains(0), "마지막에 빈 페이지를 요청함: " + scrolledPageSizes);
+            assertEquals(expected, paged);
+            assertEquals(60, page.getTotalElements());
+
+            // When: 새 게시글 등록 후 다시 첫 페이지 조회
+            saved.add(postRepository.save(new Post("작성자 필터 새 글", "작성자 필터 새 내용", author)));
+            PostListRequest first = new PostListRequest(0, 7, "pagination");
+            first.setAuthor(author);
+            PageResponse<PostDto> refreshed = strategyFactory.getStrategy("pagination").loadPosts(first);
+
+            // Then: 캐시가 무효화되어 새 게시글과 늘어난 건수가 반영됨
+            assertEquals(saved.get(saved.size() - 1).getId(), refreshed.getContent().get(0).getId());
+            assertEquals(61, refreshed.getTotalElements());
+        } finally {
+            postRepository.deleteAll(saved);
+        }
+    }
+
+    @Test
+    public void testStrategiesWithoutAuthorFilterRejectIt() {
+        for (String type : List.of("keyset-pagination", "auto", "search")) {
+            // Given: 작성자 조건을 처리하지 않는 전략
+            PostListRequest request = new PostListRequest(0, 10, type);
+            request.setAuthor("개발자1");
+            request.setKeyword("전략");
+
+            // When & Then: 전체 게시글을 돌려주지 않고 거부
+            LoadStrategy strategy = strategyFactory.getStrategy(type);
+            assertThrows(InvalidRequestException.class, () -> strategy.loadPosts(request), type);
+            assertThrows(InvalidRequestException.class, () -> strategy.loadSummaries(request), type);
+        }
+    }
+
+    private long timerCount(String strategy) {
+        return meterRegistry.get("board.strategy.load")
+                .tag("strategy", strategy).tag("view", "full").tag("outcome", "success")
+                .timer().count();
+    }
+
+    private double statementTotal(String strategy) {
+        return meterRegistry.get("board.strategy.sql.statements")
+                .tag("strategy", strategy).tag("view", "full")
+                .summary().totalAmount();
+    }
+
+    private double errorCount(String strategy) {
+        // 실패 카운터는 예외 타입별로 첫 실패 때 등록됨
+        return meterRegistry.find("board.strategy.errors").tag("strategy", strategy)
+                .counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
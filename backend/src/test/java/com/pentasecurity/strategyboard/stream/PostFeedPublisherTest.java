@@ -0,0 +1,124 @@
+package com.pentasecurity.strategyboard.stream;
+
+import com.pentasecurity.strategyboard.cache.HotPostRing;
+import com.pentasecurity.strategyboard.cache.PostJsonCache;
+import com.pentasecurity.strategyboard.dto.PostDto;
+import com.pentasecurity.strategyboard.event.PostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostFeedPublisherTest {
+
+    @Autowired
+    private PostJsonCache postJsonCache;
+
+    @Autowired
+    private HotPostRing hotPostRing;
+
+    @Test
+    public void testSlowSubscriberDoesNotStallOthers() throws Exception {
+        // Given: 전송 스레드 1개, 전송 기한 200ms인 피드에 쓰기가 멈춘 구독자와 정상 구독자
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PostFeedPublisher publisher = new PostFeedPublisher(postJsonCache, hotPostRing, meterRegistry,
+                Duration.ofMinutes(1), 64, 10, 1, Duration.ofMillis(200), 4);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+
+        try {
+            publisher.subscribe(stalled, null);
+            publisher.subscribe(healthy, null);
+
+            PostDto created = new PostDto();
+            created.setId(Long.MAX_VALUE);
+            created.setTitle("새 게시글");
+            created.setAuthor("작성자");
+            created.setContent("내용");
+            created.setCreatedAt(LocalDateTime.now());
+
+            // When
+            publisher.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, created));
+
+            // Then: 멈춘 구독자는 기한을 넘겨 끊기고, 정상 구독자는 새 게시글을 받음
+            assertTrue(healthy.awaitPosts(5, TimeUnit.SECONDS), "정상 구독자가 새 게시글을 받지 못함");
+            assertEquals(1, publisher.subscriberCount());
+            assertEquals(1.0, meterRegistry.get("board.stream.slow").counter().count());
+            assertFalse(stalled.completed);
+
+            // 멈춘 쓰기가 끝나면 전송 스레드가 연결을 종료
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!stalled.completed && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(stalled.completed);
+        } finally {
+            release.countDown();
+            publisher.shutdown();
+        }
+    }
+
+    /**
+     * 전송을 기록하고, 잠금 장치가 주어지면 풀릴 때까지 쓰기를 멈추는 SseEmitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        boolean awaitPosts(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (System.nanoTime() < deadline) {
+                boolean received = sent.stream()
+                        .flatMap(event -> event.build().stream())
+                        .anyMatch(data -> data.getData().toString().contains("event:posts"));
+                if (received) {
+                    return true;
+                }
+                Thread.sleep(10);
+            }
+            return false;
+        }
+    }
+}
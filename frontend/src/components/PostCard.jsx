@@ -25,7 +25,7 @@ const PostCard = ({ post }) => {
     });
   };
 
-  // 내용 미리보기 (100자 제한)
+  // 내용 미리보기 (100자 제한, 요약 응답이면 서버에서 만든 excerpt 사용)
   const getPreviewContent = (content) => {
     if (content.length <= 100) return content;
     return content.substring(0, 100) + '...';
@@ -50,7 +50,7 @@ const PostCard = ({ post }) => {
 
         {/* 내용 미리보기 */}
         <Typography variant="body2" color="text.secondary" paragraph>
-          {getPreviewContent(post.content)}
+          {post.excerpt ?? getPreviewContent(post.content)}
         </Typography>
 
         {/* 하단 정보 */}
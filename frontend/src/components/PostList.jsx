@@ -14,7 +14,7 @@ import {
 } from '@mui/material';
 import { Refresh } from '@mui/icons-material';
 import PostCard from './PostCard';
-import { fetchPosts } from '../services/postService';
+import { fetchPosts, subscribePostStream } from '../services/postService';
 
 /**
  * 게시글 목록 메인 컴포넌트
@@ -123,6 +123,23 @@ const PostList = () => {
     loadPosts();
   }, [loadPosts]);
 
+  // 무한스크롤: 새 게시글은 목록을 다시 조회하지 않고 실시간 피드로 받아 맨 위에 추가
+  useEffect(() => {
+    if (strategy !== 'infinite') {
+      return undefined;
+    }
+    return subscribePostStream(
+      (newPosts) => {
+        setPosts(prev => {
+          const known = new Set(prev.map(post => post.id));
+          const fresh = newPosts.filter(post => !known.has(post.id)).reverse();
+          return fresh.length > 0 ? [...fresh, ...prev] : prev;
+        });
+      },
+      () => loadPosts()
+    );
+  }, [strategy, loadPosts]);
+
   return (
     <Box sx={{ flexGrow: 1 }}>
       {/* AppBar with 전략 선택 토글 */}
@@ -27,19 +27,22 @@ apiClient.interceptors.response.use(
  * @param {number} params.page - 페이지 번호 (pagination용)
  * @param {number} params.size - 페이지 크기
  * @param {number} params.lastId - 마지막 게시글 ID (infinite용)
+ * @param {string} params.view - 응답 형태 ('summary' | 'full')
  */
 export const fetchPosts = async (params = {}) => {
   const {
     strategy = 'pagination',
     page = 0,
     size = 10,
-    lastId
+    lastId,
+    view = 'summary'
   } = params;
 
   const queryParams = new URLSearchParams({
     strategy,
     page: page.toString(),
     size: size.toString(),
+    view,
   });
 
   if (lastId) {
@@ -50,6 +53,20 @@ export const fetchPosts = async (params = {}) => {
   return response.data;
 };
 
+/**
+ * 새 게시글 실시간 피드 구독 (Server-Sent Events)
+ * 연결이 끊기면 브라우저가 마지막 이벤트 ID로 자동 재연결함
+ * @param {Function} onPosts - 새 게시글 배열(ID 오름차순)을 받는 콜백
+ * @param {Function} onResync - 놓친 게시글이 있어 목록을 다시 조회해야 할 때 호출
+ * @returns {Function} 구독 해제 함수
+ */
+export const subscribePostStream = (onPosts, onResync) => {
+  const source = new EventSource(`${API_BASE_URL}/posts/stream`);
+  source.addEventListener('posts', (event) => onPosts(JSON.parse(event.data)));
+  source.addEventListener('resync', () => onResync());
+  return () => source.close();
+};
+
 /**
  * 특정 게시글 조회
  * @param {number} id - 게시글 ID